@@ -0,0 +1,143 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Groups {@link TheGauntletConfig} keys by the state that has to be invalidated when they change.
+ * <p>
+ * {@link #TIMER} and {@link #BOSS} keys are read from the {@link TheGauntletSettings} snapshot on use
+ * and need no further work. Keys not listed here invalidate everything.
+ */
+public enum ConfigScope
+{
+	NPC_HIGHLIGHT(
+		"demibossOutline",
+		"demibossOutlineWidth",
+		"darkBeastOutlineColor",
+		"dragonOutlineColor",
+		"bearOutlineColor",
+		"strongNpcOutline",
+		"strongNpcOutlineWidth",
+		"strongNpcOutlineColor",
+		"weakNpcOutline",
+		"weakNpcOutlineWidth",
+		"weakNpcOutlineColor"
+	),
+	MAZE_OVERLAY(
+		"overlayResources",
+		"overlayOreDeposit",
+		"oreDepositOutlineColor",
+		"oreDepositFillColor",
+		"overlayPhrenRoots",
+		"phrenRootsOutlineColor",
+		"phrenRootsFillColor",
+		"overlayLinumTirinum",
+		"linumTirinumOutlineColor",
+		"linumTirinumFillColor",
+		"overlayGrymRoot",
+		"grymRootOutlineColor",
+		"grymRootFillColor",
+		"overlayFishingSpot",
+		"fishingSpotOutlineColor",
+		"fishingSpotFillColor",
+		"resourceIconSize",
+		"resourceHullOutlineWidth",
+		"resourceTileOutlineWidth",
+		"resourceHullOutlineDistance",
+		"resourceTileOutlineDistance",
+		"minimapResourceOverlay",
+		"resourceRemoveOutlineOnceAcquired",
+		"utilitiesOutline",
+		"utilitiesOutlineWidth",
+		"utilitiesOutlineColor",
+		"utilitiesFishCheck",
+		"minimapDemibossOverlay"
+	),
+	TRACKER(
+		"resourceTracker",
+		"resourceTrackingMode",
+		"resourceTrackingSource",
+		"resourceTrackerDisplay",
+		"resourceRemoveAcquired",
+		"resourceOre",
+		"resourceBark",
+		"resourceTirinum",
+		"resourceGrym",
+		"resourceFrame",
+		"resourcePaddlefish",
+		"resourceShard",
+		"resourceBowstring",
+		"resourceSpike",
+		"resourceOrb"
+	),
+	TIMER(
+		"timerOverlay",
+		"timerChatMessage"
+	),
+	BOSS(
+		"hunllefTileOutline",
+		"hunllefPrayerOutlineColor",
+		"hunllefTileOutlineWidth",
+		"hunllefOutlineColor",
+		"hunllefFillColor",
+		"tornadoTileOutline",
+		"tornadoTileOutlineWidth",
+		"tornadoOutlineColor",
+		"tornadoFillColor"
+	);
+
+	private static final Map<String, ConfigScope> BY_KEY = new HashMap<>();
+
+	static
+	{
+		for (final ConfigScope scope : values())
+		{
+			for (final String key : scope.keys)
+			{
+				BY_KEY.put(key, scope);
+			}
+		}
+	}
+
+	private final String[] keys;
+
+	ConfigScope(final String... keys)
+	{
+		this.keys = keys;
+	}
+
+	@Nullable
+	public static ConfigScope fromKey(final String key)
+	{
+		return BY_KEY.get(key);
+	}
+}
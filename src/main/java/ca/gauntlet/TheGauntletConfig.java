@@ -123,10 +123,34 @@ public interface TheGauntletConfig extends Config
 		return TrackingMode.DECREMENT;
 	}
 
+	@ConfigItem(
+		name = "Tracking Source",
+		description = "Count resources from chat messages or from inventory changes.",
+		position = 2,
+		keyName = "resourceTrackingSource",
+		section = resourceTrackingSection
+	)
+	default TrackingSource resourceTrackingSource()
+	{
+		return TrackingSource.CHAT;
+	}
+
+	@ConfigItem(
+		name = "Tracker Display",
+		description = "Show counters as separate infoboxes or in a single panel.",
+		position = 3,
+		keyName = "resourceTrackerDisplay",
+		section = resourceTrackingSection
+	)
+	default TrackerDisplay resourceTrackerDisplay()
+	{
+		return TrackerDisplay.INFOBOX;
+	}
+
 	@ConfigItem(
 		name = "Remove acquired resources",
 		description = "Remove counters when acquired amount reached.",
-		position = 2,
+		position = 4,
 		keyName = "resourceRemoveAcquired",
 		section = resourceTrackingSection
 	)
@@ -138,7 +162,7 @@ public interface TheGauntletConfig extends Config
 	@ConfigItem(
 		name = "Ore",
 		description = "The desired number of ores to acquire.",
-		position = 3,
+		position = 5,
 		keyName = "resourceOre",
 		section = resourceTrackingSection
 	)
@@ -150,7 +174,7 @@ public interface TheGauntletConfig extends Config
 	@ConfigItem(
 		name = "Phren bark",
 		description = "The desired number of phren barks to acquire.",
-		position = 4,
+		position = 6,
 		keyName = "resourceBark",
 		section = resourceTrackingSection
 	)
@@ -162,7 +186,7 @@ public interface TheGauntletConfig extends Config
 	@ConfigItem(
 		name = "Linum tirinum",
 		description = "The desired number of linum tirinums to acquire.",
-		position = 5,
+		position = 7,
 		keyName = "resourceTirinum",
 		section = resourceTrackingSection
 	)
@@ -174,7 +198,7 @@ public interface TheGauntletConfig extends Config
 	@ConfigItem(
 		name = "Grym leaf",
 		description = "The desired number of grym leaves to acquire.",
-		position = 6,
+		position = 8,
 		keyName = "resourceGrym",
 		section = resourceTrackingSection
 	)
@@ -186,7 +210,7 @@ public interface TheGauntletConfig extends Config
 	@ConfigItem(
 		name = "Weapon frames",
 		description = "The desired number of weapon frames to acquire.",
-		position = 7,
+		position = 9,
 		keyName = "resourceFrame",
 		section = resourceTrackingSection
 	)
@@ -198,7 +222,7 @@ public interface TheGauntletConfig extends Config
 	@ConfigItem(
 		name = "Paddlefish",
 		description = "The desired number of paddlefish to acquire.",
-		position = 8,
+		position = 10,
 		keyName = "resourcePaddlefish",
 		section = resourceTrackingSection
 	)
@@ -210,7 +234,7 @@ public interface TheGauntletConfig extends Config
 	@ConfigItem(
 		name = "Crystal shards",
 		description = "The desired number of crystal shards to acquire.",
-		position = 9,
+		position = 11,
 		keyName = "resourceShard",
 		section = resourceTrackingSection
 	)
@@ -222,7 +246,7 @@ public interface TheGauntletConfig extends Config
 	@ConfigItem(
 		name = "Bowstring",
 		description = "Whether or not to acquire the crystalline or corrupted bowstring.",
-		position = 10,
+		position = 12,
 		keyName = "resourceBowstring",
 		section = resourceTrackingSection
 	)
@@ -234,7 +258,7 @@ public interface TheGauntletConfig extends Config
 	@ConfigItem(
 		name = "Spike",
 		description = "Whether or not to acquire the crystal or corrupted spike.",
-		position = 11,
+		position = 13,
 		keyName = "resourceSpike",
 		section = resourceTrackingSection
 	)
@@ -246,7 +270,7 @@ public interface TheGauntletConfig extends Config
 	@ConfigItem(
 		name = "Orb",
 		description = "Whether or not to acquire the crystal or corrupted orb.",
-		position = 12,
+		position = 14,
 		keyName = "resourceOrb",
 		section = resourceTrackingSection
 	)
@@ -507,10 +531,41 @@ public interface TheGauntletConfig extends Config
 		return 1;
 	}
 
+	@Range(
+		max = 104
+	)
+	@ConfigItem(
+		name = "Hull outline distance",
+		description = "Only draw hull outlines for resources within this many tiles of the player.",
+		position = 19,
+		keyName = "resourceHullOutlineDistance",
+		section = resourceOverlaySection
+	)
+	default int resourceHullOutlineDistance()
+	{
+		return 104;
+	}
+
+	@Range(
+		max = 104
+	)
+	@ConfigItem(
+		name = "Tile outline distance",
+		description = "Only draw tile outlines for resources within this many tiles of the player." +
+			"<br>Resources further away only display their icon.",
+		position = 20,
+		keyName = "resourceTileOutlineDistance",
+		section = resourceOverlaySection
+	)
+	default int resourceTileOutlineDistance()
+	{
+		return 104;
+	}
+
 	@ConfigItem(
 		name = "Minimap overlays",
 		description = "Overlay the minimap with icons for resources.",
-		position = 19,
+		position = 21,
 		keyName = "minimapResourceOverlay",
 		section = resourceOverlaySection
 	)
@@ -523,7 +578,7 @@ public interface TheGauntletConfig extends Config
 		name = "Dynamically remove overlays",
 		description = "Remove overlays for acquired tracked resources." +
 			"<br>Disabled if incrementally tracking resources.",
-		position = 20,
+		position = 22,
 		keyName = "resourceRemoveOutlineOnceAcquired",
 		section = resourceOverlaySection
 	)
@@ -956,4 +1011,36 @@ public interface TheGauntletConfig extends Config
 			return name;
 		}
 	}
+
+	@Getter
+	@AllArgsConstructor
+	enum TrackingSource
+	{
+		CHAT("Chat"),
+		INVENTORY("Inventory");
+
+		private final String name;
+
+		@Override
+		public String toString()
+		{
+			return name;
+		}
+	}
+
+	@Getter
+	@AllArgsConstructor
+	enum TrackerDisplay
+	{
+		INFOBOX("Infoboxes"),
+		PANEL("Panel");
+
+		private final String name;
+
+		@Override
+		public String toString()
+		{
+			return name;
+		}
+	}
 }
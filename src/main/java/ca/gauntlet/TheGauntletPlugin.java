@@ -30,18 +30,30 @@
 
 package ca.gauntlet;
 
+import ca.gauntlet.history.RunHistoryStore;
+import ca.gauntlet.history.RunStatistics;
+import ca.gauntlet.history.Split;
 import ca.gauntlet.module.boss.BossModule;
 import ca.gauntlet.module.maze.MazeModule;
+import ca.gauntlet.module.overlay.TimerOverlay;
 import com.google.inject.Provides;
+import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
+import lombok.Getter;
 import net.runelite.api.Client;
+import net.runelite.api.ChatMessageType;
 import net.runelite.api.GameState;
+import net.runelite.api.events.CommandExecuted;
 import net.runelite.api.events.VarbitChanged;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.ui.overlay.OverlayManager;
 
 @PluginDescriptor(
 	name = "The Gauntlet",
@@ -52,15 +64,33 @@ public final class TheGauntletPlugin extends Plugin
 {
 	private static final int VARBIT_MAZE = 9178;
 	private static final int VARBIT_BOSS = 9177;
+	private static final String STATS_COMMAND = "gauntletstats";
 
 	@Inject
 	private Client client;
 	@Inject
+	private TheGauntletConfig config;
+	@Inject
 	private ClientThread clientThread;
 	@Inject
 	private MazeModule mazeModule;
 	@Inject
 	private BossModule bossModule;
+	@Inject
+	private OverlayManager overlayManager;
+	@Inject
+	private TimerOverlay timerOverlay;
+	@Inject
+	private ScheduledExecutorService executorService;
+	@Inject
+	private RunHistoryStore runHistoryStore;
+	@Inject
+	private RunStatistics runStatistics;
+	@Inject
+	private ChatMessageManager chatMessageManager;
+
+	@Getter
+	private volatile TheGauntletSettings settings;
 
 	@Provides
 	TheGauntletConfig provideConfig(final ConfigManager configManager)
@@ -71,6 +101,16 @@ public final class TheGauntletPlugin extends Plugin
 	@Override
 	protected void startUp()
 	{
+		settings = new TheGauntletSettings(config);
+
+		mazeModule.startUp();
+		bossModule.startUp();
+		overlayManager.add(timerOverlay);
+
+		executorService.execute(mazeModule::prewarm);
+		runHistoryStore.addListener(runStatistics);
+		executorService.execute(runHistoryStore::load);
+
 		if (client.getGameState() != GameState.LOGGED_IN)
 		{
 			return;
@@ -79,11 +119,11 @@ public final class TheGauntletPlugin extends Plugin
 		clientThread.invoke(() -> {
 			if (client.getVarbitValue(VARBIT_BOSS) == 1)
 			{
-				bossModule.start();
+				bossModule.activate();
 			}
 			else if (client.getVarbitValue(VARBIT_MAZE) == 1)
 			{
-				mazeModule.start();
+				mazeModule.activate();
 			}
 		});
 	}
@@ -91,8 +131,96 @@ public final class TheGauntletPlugin extends Plugin
 	@Override
 	protected void shutDown()
 	{
-		mazeModule.stop();
-		bossModule.stop();
+		mazeModule.shutDown();
+		bossModule.shutDown();
+		overlayManager.remove(timerOverlay);
+		runHistoryStore.removeListener(runStatistics);
+	}
+
+	public boolean isInGauntlet()
+	{
+		return mazeModule.isActive() || bossModule.isActive();
+	}
+
+	// Runs ahead of the module subscribers so they observe the new snapshot.
+	@Subscribe(priority = 1)
+	void onConfigChanged(final ConfigChanged event)
+	{
+		if (event.getGroup().equals(TheGauntletConfig.CONFIG_GROUP))
+		{
+			settings = new TheGauntletSettings(config);
+		}
+	}
+
+	@Subscribe
+	void onCommandExecuted(final CommandExecuted event)
+	{
+		if (!STATS_COMMAND.equalsIgnoreCase(event.getCommand()))
+		{
+			return;
+		}
+
+		final RunStatistics.Snapshot snapshot = runStatistics.getSnapshot();
+		boolean printed = false;
+
+		for (final boolean corrupted : new boolean[]{false, true})
+		{
+			final int runs = snapshot.getRuns(corrupted);
+
+			if (runs == 0)
+			{
+				continue;
+			}
+
+			final StringBuilder builder = new StringBuilder()
+				.append(corrupted ? "Corrupted" : "Normal")
+				.append(": ").append(runs).append(runs == 1 ? " run" : " runs")
+				.append(", ").append(Math.round(snapshot.getDeathRate(corrupted) * 100)).append("% deaths");
+
+			builder.append(" | Prep");
+
+			for (final RunStatistics.Percentile percentile : RunStatistics.Percentile.values())
+			{
+				appendPercentile(builder, percentile, snapshot.getSplitTicks(corrupted, Split.HUNLLEF, percentile));
+			}
+
+			builder.append(" | Boss");
+
+			for (final RunStatistics.Percentile percentile : RunStatistics.Percentile.values())
+			{
+				appendPercentile(builder, percentile, snapshot.getBossTicks(corrupted, percentile));
+			}
+
+			sendConsoleMessage(builder.toString());
+			printed = true;
+		}
+
+		if (!printed)
+		{
+			sendConsoleMessage("No gauntlet runs recorded yet.");
+		}
+	}
+
+	private static void appendPercentile(final StringBuilder builder, final RunStatistics.Percentile percentile, final int ticks)
+	{
+		builder.append(' ').append(percentile.getName()).append(' ');
+
+		if (ticks == -1)
+		{
+			builder.append('-');
+		}
+		else
+		{
+			TimerOverlay.appendTicks(builder, ticks);
+		}
+	}
+
+	private void sendConsoleMessage(final String message)
+	{
+		chatMessageManager.queue(QueuedMessage.builder()
+			.type(ChatMessageType.CONSOLE)
+			.runeLiteFormattedMessage(message)
+			.build());
 	}
 
 	@Subscribe
@@ -104,23 +232,23 @@ public final class TheGauntletPlugin extends Plugin
 		{
 			if (event.getValue() == 1)
 			{
-				mazeModule.start();
+				mazeModule.activate();
 			}
 			else
 			{
-				mazeModule.stop();
+				mazeModule.deactivate();
 			}
 		}
 		else if (varbit == VARBIT_BOSS)
 		{
 			if (event.getValue() == 1)
 			{
-				mazeModule.stop();
-				bossModule.start();
+				mazeModule.deactivate();
+				bossModule.activate();
 			}
 			else
 			{
-				bossModule.stop();
+				bossModule.deactivate();
 			}
 		}
 	}
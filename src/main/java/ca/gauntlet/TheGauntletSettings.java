@@ -0,0 +1,214 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet;
+
+import ca.gauntlet.TheGauntletConfig.PrayerTileOutline;
+import ca.gauntlet.TheGauntletConfig.TileOutline;
+import ca.gauntlet.TheGauntletConfig.TrackingMode;
+import ca.gauntlet.TheGauntletConfig.TrackerDisplay;
+import ca.gauntlet.TheGauntletConfig.TrackingSource;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Stroke;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Immutable snapshot of {@link TheGauntletConfig}.
+ * <p>
+ * Rebuilt by the plugin whenever the config group changes so that overlays and highlighters
+ * read plain fields instead of going through the config proxy on every frame. Strokes derived
+ * from the configured widths are created here once rather than per rendered tile.
+ */
+@Getter
+@Accessors(fluent = true)
+public final class TheGauntletSettings
+{
+	// Resource Tracking
+
+	private final boolean resourceTracker;
+	private final TrackingMode resourceTrackingMode;
+	private final TrackingSource resourceTrackingSource;
+	private final TrackerDisplay resourceTrackerDisplay;
+	private final boolean resourceRemoveAcquired;
+	private final int resourceOre;
+	private final int resourceBark;
+	private final int resourceTirinum;
+	private final int resourceGrym;
+	private final int resourceFrame;
+	private final int resourcePaddlefish;
+	private final int resourceShard;
+	private final boolean resourceBowstring;
+	private final boolean resourceSpike;
+	private final boolean resourceOrb;
+
+	// Resource Overlay
+
+	private final boolean overlayResources;
+	private final boolean overlayOreDeposit;
+	private final Color oreDepositOutlineColor;
+	private final Color oreDepositFillColor;
+	private final boolean overlayPhrenRoots;
+	private final Color phrenRootsOutlineColor;
+	private final Color phrenRootsFillColor;
+	private final boolean overlayLinumTirinum;
+	private final Color linumTirinumOutlineColor;
+	private final Color linumTirinumFillColor;
+	private final boolean overlayGrymRoot;
+	private final Color grymRootOutlineColor;
+	private final Color grymRootFillColor;
+	private final boolean overlayFishingSpot;
+	private final Color fishingSpotOutlineColor;
+	private final Color fishingSpotFillColor;
+	private final int resourceIconSize;
+	private final int resourceHullOutlineWidth;
+	private final int resourceTileOutlineWidth;
+	private final Stroke resourceTileStroke;
+	private final int resourceHullOutlineDistance;
+	private final int resourceTileOutlineDistance;
+	private final boolean minimapResourceOverlay;
+	private final boolean resourceRemoveOutlineOnceAcquired;
+
+	// Utilities
+
+	private final boolean utilitiesOutline;
+	private final int utilitiesOutlineWidth;
+	private final Color utilitiesOutlineColor;
+	private final boolean utilitiesFishCheck;
+
+	// Hunllef
+
+	private final boolean hunllefTileOutline;
+	private final PrayerTileOutline hunllefPrayerOutlineColor;
+	private final int hunllefTileOutlineWidth;
+	private final Stroke hunllefTileStroke;
+	private final Color hunllefOutlineColor;
+	private final Color hunllefFillColor;
+	private final TileOutline tornadoTileOutline;
+	private final int tornadoTileOutlineWidth;
+	private final Stroke tornadoTileStroke;
+	private final Color tornadoOutlineColor;
+	private final Color tornadoFillColor;
+
+	// Npcs
+
+	private final boolean demibossOutline;
+	private final int demibossOutlineWidth;
+	private final Color darkBeastOutlineColor;
+	private final Color dragonOutlineColor;
+	private final Color bearOutlineColor;
+	private final boolean strongNpcOutline;
+	private final int strongNpcOutlineWidth;
+	private final Color strongNpcOutlineColor;
+	private final boolean weakNpcOutline;
+	private final int weakNpcOutlineWidth;
+	private final Color weakNpcOutlineColor;
+	private final boolean minimapDemibossOverlay;
+
+	// Timer
+
+	private final boolean timerOverlay;
+	private final boolean timerChatMessage;
+
+	TheGauntletSettings(final TheGauntletConfig config)
+	{
+		resourceTracker = config.resourceTracker();
+		resourceTrackingMode = config.resourceTrackingMode();
+		resourceTrackingSource = config.resourceTrackingSource();
+		resourceTrackerDisplay = config.resourceTrackerDisplay();
+		resourceRemoveAcquired = config.resourceRemoveAcquired();
+		resourceOre = config.resourceOre();
+		resourceBark = config.resourceBark();
+		resourceTirinum = config.resourceTirinum();
+		resourceGrym = config.resourceGrym();
+		resourceFrame = config.resourceFrame();
+		resourcePaddlefish = config.resourcePaddlefish();
+		resourceShard = config.resourceShard();
+		resourceBowstring = config.resourceBowstring();
+		resourceSpike = config.resourceSpike();
+		resourceOrb = config.resourceOrb();
+
+		overlayResources = config.overlayResources();
+		overlayOreDeposit = config.overlayOreDeposit();
+		oreDepositOutlineColor = config.oreDepositOutlineColor();
+		oreDepositFillColor = config.oreDepositFillColor();
+		overlayPhrenRoots = config.overlayPhrenRoots();
+		phrenRootsOutlineColor = config.phrenRootsOutlineColor();
+		phrenRootsFillColor = config.phrenRootsFillColor();
+		overlayLinumTirinum = config.overlayLinumTirinum();
+		linumTirinumOutlineColor = config.linumTirinumOutlineColor();
+		linumTirinumFillColor = config.linumTirinumFillColor();
+		overlayGrymRoot = config.overlayGrymRoot();
+		grymRootOutlineColor = config.grymRootOutlineColor();
+		grymRootFillColor = config.grymRootFillColor();
+		overlayFishingSpot = config.overlayFishingSpot();
+		fishingSpotOutlineColor = config.fishingSpotOutlineColor();
+		fishingSpotFillColor = config.fishingSpotFillColor();
+		resourceIconSize = config.resourceIconSize();
+		resourceHullOutlineWidth = config.resourceHullOutlineWidth();
+		resourceTileOutlineWidth = config.resourceTileOutlineWidth();
+		resourceTileStroke = new BasicStroke(resourceTileOutlineWidth);
+		resourceHullOutlineDistance = config.resourceHullOutlineDistance();
+		resourceTileOutlineDistance = config.resourceTileOutlineDistance();
+		minimapResourceOverlay = config.minimapResourceOverlay();
+		resourceRemoveOutlineOnceAcquired = config.resourceRemoveOutlineOnceAcquired();
+
+		utilitiesOutline = config.utilitiesOutline();
+		utilitiesOutlineWidth = config.utilitiesOutlineWidth();
+		utilitiesOutlineColor = config.utilitiesOutlineColor();
+		utilitiesFishCheck = config.utilitiesFishCheck();
+
+		hunllefTileOutline = config.hunllefTileOutline();
+		hunllefPrayerOutlineColor = config.hunllefPrayerOutlineColor();
+		hunllefTileOutlineWidth = config.hunllefTileOutlineWidth();
+		hunllefTileStroke = new BasicStroke(hunllefTileOutlineWidth);
+		hunllefOutlineColor = config.hunllefOutlineColor();
+		hunllefFillColor = config.hunllefFillColor();
+		tornadoTileOutline = config.tornadoTileOutline();
+		tornadoTileOutlineWidth = config.tornadoTileOutlineWidth();
+		tornadoTileStroke = new BasicStroke(tornadoTileOutlineWidth);
+		tornadoOutlineColor = config.tornadoOutlineColor();
+		tornadoFillColor = config.tornadoFillColor();
+
+		demibossOutline = config.demibossOutline();
+		demibossOutlineWidth = config.demibossOutlineWidth();
+		darkBeastOutlineColor = config.darkBeastOutlineColor();
+		dragonOutlineColor = config.dragonOutlineColor();
+		bearOutlineColor = config.bearOutlineColor();
+		strongNpcOutline = config.strongNpcOutline();
+		strongNpcOutlineWidth = config.strongNpcOutlineWidth();
+		strongNpcOutlineColor = config.strongNpcOutlineColor();
+		weakNpcOutline = config.weakNpcOutline();
+		weakNpcOutlineWidth = config.weakNpcOutlineWidth();
+		weakNpcOutlineColor = config.weakNpcOutlineColor();
+		minimapDemibossOverlay = config.minimapDemibossOverlay();
+
+		timerOverlay = config.timerOverlay();
+		timerChatMessage = config.timerChatMessage();
+	}
+}
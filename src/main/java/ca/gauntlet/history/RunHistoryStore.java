@@ -0,0 +1,269 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.history;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+
+/**
+ * Append-only log of {@link RunRecord}s under the RuneLite directory.
+ * <p>
+ * The file is a small header followed by fixed-size records. Loading maps the file and decodes it in
+ * one pass. Appends are queued from the client thread and written by a single task on the executor,
+ * so runs that end close together share one write and one force. The client thread never touches the disk.
+ */
+@Slf4j
+@Singleton
+public class RunHistoryStore
+{
+	private static final Path HISTORY_FILE = new File(new File(RuneLite.RUNELITE_DIR, "the-gauntlet"), "runs.dat").toPath();
+	static final int MAGIC = 0x474E544C;
+	static final int VERSION = 1;
+	// magic, version, record size, reserved
+	static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+	private final ScheduledExecutorService executorService;
+	private final Path historyFile;
+	private final Queue<RunRecord> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+	private final List<RunHistoryListener> listeners = new CopyOnWriteArrayList<>();
+
+	private volatile List<RunRecord> records = Collections.emptyList();
+
+	@Inject
+	RunHistoryStore(final ScheduledExecutorService executorService)
+	{
+		this(executorService, HISTORY_FILE);
+	}
+
+	RunHistoryStore(final ScheduledExecutorService executorService, final Path historyFile)
+	{
+		this.executorService = executorService;
+		this.historyFile = historyFile;
+	}
+
+	/**
+	 * @return an immutable view of every run loaded or appended so far
+	 */
+	public List<RunRecord> getRecords()
+	{
+		return records;
+	}
+
+	public void addListener(final RunHistoryListener listener)
+	{
+		listeners.add(listener);
+	}
+
+	public void removeListener(final RunHistoryListener listener)
+	{
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Reads the log from disk, replacing the in-memory records. Blocks, so it must be called off the client thread.
+	 */
+	public synchronized void load()
+	{
+		if (!Files.exists(historyFile))
+		{
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(historyFile, StandardOpenOption.READ))
+		{
+			final long size = channel.size();
+
+			if (size < HEADER_SIZE)
+			{
+				return;
+			}
+
+			final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+			if (!hasValidHeader(buffer))
+			{
+				log.warn("Ignoring run history with an unknown format: {}", historyFile);
+				return;
+			}
+
+			buffer.position(HEADER_SIZE);
+
+			// A record cut short by a crash is ignored, and truncated on the next append
+			final int count = (int) ((size - HEADER_SIZE) / RunRecord.SIZE);
+			final List<RunRecord> loaded = new ArrayList<>(count);
+
+			for (int i = 0; i < count; i++)
+			{
+				loaded.add(RunRecord.read(buffer));
+			}
+
+			records = Collections.unmodifiableList(loaded);
+
+			for (final RunHistoryListener listener : listeners)
+			{
+				listener.onRunsLoaded(records);
+			}
+		}
+		catch (IOException e)
+		{
+			log.warn("Failed to read run history", e);
+		}
+	}
+
+	/**
+	 * Queues a record to be written on the executor. Safe to call from the client thread.
+	 */
+	public void append(final RunRecord record)
+	{
+		pending.add(record);
+
+		if (flushScheduled.compareAndSet(false, true))
+		{
+			executorService.execute(this::flush);
+		}
+	}
+
+	private synchronized void flush()
+	{
+		flushScheduled.set(false);
+
+		final List<RunRecord> batch = new ArrayList<>();
+
+		for (RunRecord record = pending.poll(); record != null; record = pending.poll())
+		{
+			batch.add(record);
+		}
+
+		if (batch.isEmpty())
+		{
+			return;
+		}
+
+		try
+		{
+			Files.createDirectories(historyFile.getParent());
+
+			try (FileChannel channel = FileChannel.open(historyFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE))
+			{
+				final long size = channel.size();
+				final boolean empty = size < HEADER_SIZE;
+				final long end = empty ? 0 : size - (size - HEADER_SIZE) % RunRecord.SIZE;
+
+				if (!empty)
+				{
+					final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+					channel.read(header, 0);
+					header.flip();
+
+					if (!hasValidHeader(header))
+					{
+						log.warn("Not appending {} runs to run history with an unknown format: {}", batch.size(), historyFile);
+						return;
+					}
+				}
+
+				final ByteBuffer buffer = ByteBuffer.allocate((empty ? HEADER_SIZE : 0) + batch.size() * RunRecord.SIZE);
+
+				if (empty)
+				{
+					buffer.putInt(MAGIC);
+					buffer.putInt(VERSION);
+					buffer.putInt(RunRecord.SIZE);
+					buffer.putInt(0);
+				}
+
+				for (final RunRecord record : batch)
+				{
+					record.write(buffer);
+				}
+
+				buffer.flip();
+				channel.truncate(end);
+				channel.position(end);
+
+				while (buffer.hasRemaining())
+				{
+					channel.write(buffer);
+				}
+
+				channel.force(false);
+			}
+		}
+		catch (IOException e)
+		{
+			log.warn("Failed to write {} runs to run history", batch.size(), e);
+			return;
+		}
+
+		// Only runs on disk are published, so statistics match what the next load reads back
+		publish(batch);
+	}
+
+	private void publish(final List<RunRecord> batch)
+	{
+		final List<RunRecord> updated = new ArrayList<>(records.size() + batch.size());
+		updated.addAll(records);
+		updated.addAll(batch);
+		records = Collections.unmodifiableList(updated);
+
+		for (final RunHistoryListener listener : listeners)
+		{
+			for (final RunRecord record : batch)
+			{
+				listener.onRunAppended(record);
+			}
+		}
+	}
+
+	private static boolean hasValidHeader(final ByteBuffer buffer)
+	{
+		return buffer.remaining() >= HEADER_SIZE &&
+			buffer.getInt() == MAGIC &&
+			buffer.getInt() == VERSION &&
+			buffer.getInt() == RunRecord.SIZE;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.history;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A completed or failed run as stored in the run history log.
+ * <p>
+ * Records have a fixed size on disk so the log can be appended to without an index and read
+ * back by offset. Splits and resource counts are padded to fixed slot counts so that adding
+ * a split or resource does not change the record layout.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RunRecord
+{
+	static final int SPLIT_SLOTS = 8;
+	static final int RESOURCE_SLOTS = 24;
+	// timestamp, region, outcome, flags, total ticks, splits, resource counts
+	static final int SIZE = Long.BYTES + 1 + 1 + Short.BYTES + Integer.BYTES +
+		SPLIT_SLOTS * Integer.BYTES + RESOURCE_SLOTS * Short.BYTES;
+
+	// The run start was reset mid-run, so its times are not comparable to full runs
+	private static final int FLAG_RESUMED = 1;
+
+	private static final Outcome[] OUTCOMES = Outcome.values();
+
+	static
+	{
+		if (Split.values().length > SPLIT_SLOTS)
+		{
+			throw new IllegalStateException("Run record has too few split slots");
+		}
+	}
+
+	private final long timestamp;
+	private final boolean corrupted;
+	private final boolean resumed;
+	private final Outcome outcome;
+	private final int totalTicks;
+	@Getter(AccessLevel.NONE)
+	private final int[] splitTicks;
+	@Getter(AccessLevel.NONE)
+	private final int[] resourceCounts;
+
+	public enum Outcome
+	{
+		DEATH,
+		COMPLETED
+	}
+
+	/**
+	 * @param resumed        whether the timer was restarted part way through the run
+	 * @param splitTicks     ticks from the start of the run to each split, indexed by {@link Split} ordinal, -1 if not reached
+	 * @param resourceCounts gathered quantities indexed by resource ordinal
+	 */
+	public static RunRecord of(
+		final long timestamp,
+		final boolean corrupted,
+		final boolean resumed,
+		final Outcome outcome,
+		final int totalTicks,
+		final int[] splitTicks,
+		final int[] resourceCounts)
+	{
+		final int[] splits = new int[SPLIT_SLOTS];
+		final int[] resources = new int[RESOURCE_SLOTS];
+
+		Arrays.fill(splits, -1);
+		System.arraycopy(splitTicks, 0, splits, 0, Math.min(splitTicks.length, SPLIT_SLOTS));
+		System.arraycopy(resourceCounts, 0, resources, 0, Math.min(resourceCounts.length, RESOURCE_SLOTS));
+
+		return new RunRecord(timestamp, corrupted, resumed, outcome, totalTicks, splits, resources);
+	}
+
+	/**
+	 * @return ticks from the start of the run to the split, or -1 if it was not reached
+	 */
+	public int getSplitTicks(final Split split)
+	{
+		return splitTicks[split.ordinal()];
+	}
+
+	public int getResourceCount(final int resourceOrdinal)
+	{
+		return resourceOrdinal < RESOURCE_SLOTS ? resourceCounts[resourceOrdinal] : 0;
+	}
+
+	void write(final ByteBuffer buffer)
+	{
+		buffer.putLong(timestamp);
+		buffer.put((byte) (corrupted ? 1 : 0));
+		buffer.put((byte) outcome.ordinal());
+		buffer.putShort((short) (resumed ? FLAG_RESUMED : 0));
+		buffer.putInt(totalTicks);
+
+		for (final int ticks : splitTicks)
+		{
+			buffer.putInt(ticks);
+		}
+
+		for (final int count : resourceCounts)
+		{
+			buffer.putShort((short) Math.min(count, Short.MAX_VALUE));
+		}
+	}
+
+	static RunRecord read(final ByteBuffer buffer)
+	{
+		final long timestamp = buffer.getLong();
+		final boolean corrupted = buffer.get() != 0;
+		final int outcomeOrdinal = buffer.get();
+		final int flags = buffer.getShort();
+		final int totalTicks = buffer.getInt();
+
+		final int[] splits = new int[SPLIT_SLOTS];
+
+		for (int i = 0; i < SPLIT_SLOTS; i++)
+		{
+			splits[i] = buffer.getInt();
+		}
+
+		final int[] resources = new int[RESOURCE_SLOTS];
+
+		for (int i = 0; i < RESOURCE_SLOTS; i++)
+		{
+			resources[i] = buffer.getShort();
+		}
+
+		final Outcome outcome = outcomeOrdinal >= 0 && outcomeOrdinal < OUTCOMES.length ? OUTCOMES[outcomeOrdinal] : Outcome.DEATH;
+
+		return new RunRecord(timestamp, corrupted, (flags & FLAG_RESUMED) != 0, outcome, totalTicks, splits, resources);
+	}
+}
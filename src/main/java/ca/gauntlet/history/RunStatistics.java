@@ -0,0 +1,228 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.history;
+
+import java.util.List;
+import javax.inject.Singleton;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Streaming statistics over the run history: death rate, and the best time and percentiles for each
+ * split and for boss time, per region. The timer compares live splits against these bests and medians.
+ * <p>
+ * Each run updates a set of {@link TickHistogram}s on the executor, after which an immutable
+ * {@link Snapshot} is published for readers on any thread.
+ */
+@Singleton
+public class RunStatistics implements RunHistoryListener
+{
+	private static final Split[] SPLITS = Split.values();
+	private static final Percentile[] PERCENTILES = Percentile.values();
+	private static final int REGIONS = 2;
+	// One metric per split, followed by boss time
+	private static final int METRICS = SPLITS.length + 1;
+	private static final int BOSS_METRIC = SPLITS.length;
+
+	// Guarded by this; only touched from the executor
+	private final TickHistogram[] histograms = new TickHistogram[REGIONS * METRICS];
+	private final int[] runs = new int[REGIONS];
+	private final int[] deaths = new int[REGIONS];
+
+	@Getter
+	private volatile Snapshot snapshot;
+
+	public RunStatistics()
+	{
+		for (int i = 0; i < histograms.length; i++)
+		{
+			histograms[i] = new TickHistogram();
+		}
+
+		snapshot = createSnapshot();
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public enum Percentile
+	{
+		P50("p50", 0.50),
+		P90("p90", 0.90),
+		P99("p99", 0.99);
+
+		private final String name;
+		private final double fraction;
+	}
+
+	@Override
+	public synchronized void onRunsLoaded(final List<RunRecord> records)
+	{
+		for (final TickHistogram histogram : histograms)
+		{
+			histogram.clear();
+		}
+
+		for (int i = 0; i < REGIONS; i++)
+		{
+			runs[i] = 0;
+			deaths[i] = 0;
+		}
+
+		for (final RunRecord record : records)
+		{
+			add(record);
+		}
+
+		snapshot = createSnapshot();
+	}
+
+	@Override
+	public synchronized void onRunAppended(final RunRecord record)
+	{
+		add(record);
+		snapshot = createSnapshot();
+	}
+
+	private void add(final RunRecord record)
+	{
+		final int region = record.isCorrupted() ? 1 : 0;
+
+		runs[region]++;
+
+		if (record.getOutcome() == RunRecord.Outcome.DEATH)
+		{
+			deaths[region]++;
+		}
+
+		// Times of resumed runs are measured from the resume, not the start
+		if (record.isResumed())
+		{
+			return;
+		}
+
+		for (final Split split : SPLITS)
+		{
+			final int ticks = record.getSplitTicks(split);
+
+			if (ticks >= 0)
+			{
+				histograms[region * METRICS + split.ordinal()].add(ticks);
+			}
+		}
+
+		final int prepTicks = record.getSplitTicks(Split.HUNLLEF);
+
+		// Boss time is the kill time, so deaths in the boss room are left out
+		if (prepTicks >= 0 && record.getOutcome() == RunRecord.Outcome.COMPLETED)
+		{
+			histograms[region * METRICS + BOSS_METRIC].add(record.getTotalTicks() - prepTicks);
+		}
+	}
+
+	private Snapshot createSnapshot()
+	{
+		final int[] best = new int[histograms.length];
+		final int[] percentiles = new int[histograms.length * PERCENTILES.length];
+
+		for (int i = 0; i < histograms.length; i++)
+		{
+			best[i] = histograms[i].getMin();
+
+			for (final Percentile percentile : PERCENTILES)
+			{
+				percentiles[i * PERCENTILES.length + percentile.ordinal()] = histograms[i].percentile(percentile.getFraction());
+			}
+		}
+
+		return new Snapshot(runs.clone(), deaths.clone(), best, percentiles);
+	}
+
+	public static final class Snapshot
+	{
+		private final int[] runs;
+		private final int[] deaths;
+		private final int[] best;
+		private final int[] percentiles;
+
+		private Snapshot(final int[] runs, final int[] deaths, final int[] best, final int[] percentiles)
+		{
+			this.runs = runs;
+			this.deaths = deaths;
+			this.best = best;
+			this.percentiles = percentiles;
+		}
+
+		public int getRuns(final boolean corrupted)
+		{
+			return runs[corrupted ? 1 : 0];
+		}
+
+		public double getDeathRate(final boolean corrupted)
+		{
+			final int region = corrupted ? 1 : 0;
+			return runs[region] == 0 ? 0 : (double) deaths[region] / runs[region];
+		}
+
+		/**
+		 * @return the fastest recorded ticks to reach the split, or -1 if never reached
+		 */
+		public int getBest(final boolean corrupted, final Split split)
+		{
+			return best[(corrupted ? METRICS : 0) + split.ordinal()];
+		}
+
+		/**
+		 * @return the median recorded ticks to reach the split, or -1 if never reached
+		 */
+		public int getMedian(final boolean corrupted, final Split split)
+		{
+			return getSplitTicks(corrupted, split, Percentile.P50);
+		}
+
+		/**
+		 * @return ticks from the start of the run to the split at the percentile, or -1 if never reached
+		 */
+		public int getSplitTicks(final boolean corrupted, final Split split, final Percentile percentile)
+		{
+			return get(corrupted, split.ordinal(), percentile);
+		}
+
+		/**
+		 * @return ticks from entering the boss room to killing the Hunllef at the percentile, or -1 if never killed
+		 */
+		public int getBossTicks(final boolean corrupted, final Percentile percentile)
+		{
+			return get(corrupted, BOSS_METRIC, percentile);
+		}
+
+		private int get(final boolean corrupted, final int metric, final Percentile percentile)
+		{
+			return percentiles[((corrupted ? METRICS : 0) + metric) * PERCENTILES.length + percentile.ordinal()];
+		}
+	}
+}
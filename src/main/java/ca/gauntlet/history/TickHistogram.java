@@ -0,0 +1,101 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.history;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-bucket histogram of tick counts with one bucket per tick and a final overflow bucket.
+ * <p>
+ * Percentiles are exact to the tick up to {@link #MAX_TICKS}, and adding a run is a single
+ * increment, so the history never needs to be rescanned. The minimum is tracked exactly, outside
+ * the buckets, so a personal best is never capped by the overflow bucket.
+ */
+final class TickHistogram
+{
+	// 30 minutes
+	static final int MAX_TICKS = 3000;
+
+	private final int[] counts = new int[MAX_TICKS + 1];
+	private int total;
+	private int min = -1;
+
+	void add(final int ticks)
+	{
+		final int value = Math.max(0, ticks);
+		counts[Math.min(value, MAX_TICKS)]++;
+		total++;
+		min = min == -1 ? value : Math.min(min, value);
+	}
+
+	void clear()
+	{
+		Arrays.fill(counts, 0);
+		total = 0;
+		min = -1;
+	}
+
+	/**
+	 * @return the exact smallest tick count added, even beyond {@link #MAX_TICKS}, or -1 if empty
+	 */
+	int getMin()
+	{
+		return min;
+	}
+
+	int getTotal()
+	{
+		return total;
+	}
+
+	/**
+	 * @return the smallest tick count at or below which the given fraction of values fall, or -1 if empty
+	 */
+	int percentile(final double fraction)
+	{
+		if (total == 0)
+		{
+			return -1;
+		}
+
+		final long rank = Math.max(1, (long) Math.ceil(fraction * total));
+		long seen = 0;
+
+		for (int i = 0; i < counts.length; i++)
+		{
+			seen += counts[i];
+
+			if (seen >= rank)
+			{
+				return i;
+			}
+		}
+
+		return MAX_TICKS;
+	}
+}
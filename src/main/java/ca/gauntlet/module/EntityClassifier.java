@@ -0,0 +1,196 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.module;
+
+import ca.gauntlet.module.maze.Resource;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import net.runelite.api.NpcID;
+import net.runelite.api.NullNpcID;
+import net.runelite.api.ObjectID;
+import net.runelite.api.Prayer;
+import net.runelite.api.Skill;
+
+/**
+ * Dense lookup tables classifying the game object and npc ids found in both regions of the Gauntlet.
+ * <p>
+ * Each id maps to a packed entry holding its {@link Category} in the high byte and a category specific
+ * payload (resource, demi-boss skill or hunllef protection prayer ordinal) in the low byte.
+ */
+public final class EntityClassifier
+{
+	public enum Category
+	{
+		NONE,
+		RESOURCE,
+		UTILITY,
+		DEMIBOSS,
+		HUNLLEF,
+		TORNADO
+	}
+
+	private static final Category[] CATEGORIES = Category.values();
+	private static final Resource[] RESOURCES = Resource.values();
+	private static final Skill[] SKILLS = Skill.values();
+	private static final Prayer[] PRAYERS = Prayer.values();
+
+	private static final int NO_PAYLOAD = 0xFF;
+
+	private static final Table OBJECTS;
+	private static final Table NPCS;
+
+	static
+	{
+		final Map<Integer, Integer> objects = new HashMap<>();
+
+		// Normal
+		objects.put(ObjectID.CRYSTAL_DEPOSIT, entry(Category.RESOURCE, Resource.CRYSTAL_ORE.ordinal()));
+		objects.put(ObjectID.PHREN_ROOTS, entry(Category.RESOURCE, Resource.PHREN_BARK.ordinal()));
+		objects.put(ObjectID.LINUM_TIRINUM, entry(Category.RESOURCE, Resource.LINUM_TIRINUM.ordinal()));
+		objects.put(ObjectID.GRYM_ROOT, entry(Category.RESOURCE, Resource.GRYM_LEAF.ordinal()));
+		objects.put(ObjectID.FISHING_SPOT_36068, entry(Category.RESOURCE, Resource.RAW_PADDLEFISH.ordinal()));
+		objects.put(ObjectID.SINGING_BOWL_35966, entry(Category.UTILITY, NO_PAYLOAD));
+		objects.put(ObjectID.RANGE_35980, entry(Category.UTILITY, NO_PAYLOAD));
+		objects.put(ObjectID.WATER_PUMP_35981, entry(Category.UTILITY, NO_PAYLOAD));
+
+		// Corrupted
+		objects.put(ObjectID.CORRUPT_DEPOSIT, entry(Category.RESOURCE, Resource.CORRUPTED_ORE.ordinal()));
+		objects.put(ObjectID.CORRUPT_PHREN_ROOTS, entry(Category.RESOURCE, Resource.CORRUPTED_PHREN_BARK.ordinal()));
+		objects.put(ObjectID.CORRUPT_LINUM_TIRINUM, entry(Category.RESOURCE, Resource.CORRUPTED_LINUM_TIRINUM.ordinal()));
+		objects.put(ObjectID.CORRUPT_GRYM_ROOT, entry(Category.RESOURCE, Resource.CORRUPTED_GRYM_LEAF.ordinal()));
+		objects.put(ObjectID.CORRUPT_FISHING_SPOT, entry(Category.RESOURCE, Resource.RAW_PADDLEFISH.ordinal()));
+		objects.put(ObjectID.SINGING_BOWL_36063, entry(Category.UTILITY, NO_PAYLOAD));
+		objects.put(ObjectID.RANGE_36077, entry(Category.UTILITY, NO_PAYLOAD));
+		objects.put(ObjectID.WATER_PUMP_36078, entry(Category.UTILITY, NO_PAYLOAD));
+
+		OBJECTS = new Table(objects);
+
+		final Map<Integer, Integer> npcs = new HashMap<>();
+
+		// Normal
+		npcs.put(NpcID.CRYSTALLINE_BEAR, entry(Category.DEMIBOSS, Skill.ATTACK.ordinal()));
+		npcs.put(NpcID.CRYSTALLINE_DARK_BEAST, entry(Category.DEMIBOSS, Skill.RANGED.ordinal()));
+		npcs.put(NpcID.CRYSTALLINE_DRAGON, entry(Category.DEMIBOSS, Skill.MAGIC.ordinal()));
+		npcs.put(NpcID.CRYSTALLINE_HUNLLEF, entry(Category.HUNLLEF, Prayer.PROTECT_FROM_MELEE.ordinal()));
+		npcs.put(NpcID.CRYSTALLINE_HUNLLEF_9022, entry(Category.HUNLLEF, Prayer.PROTECT_FROM_MISSILES.ordinal()));
+		npcs.put(NpcID.CRYSTALLINE_HUNLLEF_9023, entry(Category.HUNLLEF, Prayer.PROTECT_FROM_MAGIC.ordinal()));
+		npcs.put(NpcID.CRYSTALLINE_HUNLLEF_9024, entry(Category.HUNLLEF, NO_PAYLOAD));
+		npcs.put(NullNpcID.NULL_9025, entry(Category.TORNADO, NO_PAYLOAD));
+
+		// Corrupted
+		npcs.put(NpcID.CORRUPTED_BEAR, entry(Category.DEMIBOSS, Skill.ATTACK.ordinal()));
+		npcs.put(NpcID.CORRUPTED_DARK_BEAST, entry(Category.DEMIBOSS, Skill.RANGED.ordinal()));
+		npcs.put(NpcID.CORRUPTED_DRAGON, entry(Category.DEMIBOSS, Skill.MAGIC.ordinal()));
+		npcs.put(NpcID.CORRUPTED_HUNLLEF, entry(Category.HUNLLEF, Prayer.PROTECT_FROM_MELEE.ordinal()));
+		npcs.put(NpcID.CORRUPTED_HUNLLEF_9036, entry(Category.HUNLLEF, Prayer.PROTECT_FROM_MISSILES.ordinal()));
+		npcs.put(NpcID.CORRUPTED_HUNLLEF_9037, entry(Category.HUNLLEF, Prayer.PROTECT_FROM_MAGIC.ordinal()));
+		npcs.put(NpcID.CORRUPTED_HUNLLEF_9038, entry(Category.HUNLLEF, NO_PAYLOAD));
+		npcs.put(NullNpcID.NULL_9039, entry(Category.TORNADO, NO_PAYLOAD));
+
+		NPCS = new Table(npcs);
+	}
+
+	private EntityClassifier()
+	{
+	}
+
+	public static Category getObjectCategory(final int objectId)
+	{
+		return CATEGORIES[OBJECTS.get(objectId) >>> 8];
+	}
+
+	public static Category getNpcCategory(final int npcId)
+	{
+		return CATEGORIES[NPCS.get(npcId) >>> 8];
+	}
+
+	@Nullable
+	public static Resource getResource(final int objectId)
+	{
+		final int entry = OBJECTS.get(objectId);
+		return entry >>> 8 == Category.RESOURCE.ordinal() ? RESOURCES[entry & 0xFF] : null;
+	}
+
+	@Nullable
+	public static Skill getDemibossSkill(final int npcId)
+	{
+		final int entry = NPCS.get(npcId);
+		return entry >>> 8 == Category.DEMIBOSS.ordinal() ? SKILLS[entry & 0xFF] : null;
+	}
+
+	@Nullable
+	public static Prayer getHunllefProtection(final int npcId)
+	{
+		final int entry = NPCS.get(npcId);
+
+		if (entry >>> 8 != Category.HUNLLEF.ordinal() || (entry & 0xFF) == NO_PAYLOAD)
+		{
+			return null;
+		}
+
+		return PRAYERS[entry & 0xFF];
+	}
+
+	private static int entry(final Category category, final int payload)
+	{
+		return category.ordinal() << 8 | payload;
+	}
+
+	private static final class Table
+	{
+		private final int offset;
+		private final short[] entries;
+
+		private Table(final Map<Integer, Integer> mappings)
+		{
+			int min = Integer.MAX_VALUE;
+			int max = Integer.MIN_VALUE;
+
+			for (final int id : mappings.keySet())
+			{
+				min = Math.min(min, id);
+				max = Math.max(max, id);
+			}
+
+			offset = min;
+			entries = new short[max - min + 1];
+
+			for (final Map.Entry<Integer, Integer> mapping : mappings.entrySet())
+			{
+				entries[mapping.getKey() - offset] = (short) (int) mapping.getValue();
+			}
+		}
+
+		private int get(final int id)
+		{
+			final int index = id - offset;
+			return index < 0 || index >= entries.length ? 0 : entries[index] & 0xFFFF;
+		}
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.module;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import javax.annotation.Nullable;
+
+/**
+ * Insertion ordered collection of scene entities keyed by the identity of their game object or npc.
+ * <p>
+ * Entries are linked in insertion order and indexed by an identity map, giving constant time
+ * add/remove for spawn and despawn handling while overlays iterate in a stable order.
+ */
+public final class EntityRegistry<K, V> implements Iterable<V>
+{
+	private final Map<K, Node<V>> index = new IdentityHashMap<>();
+
+	private Node<V> head;
+	private Node<V> tail;
+
+	public void put(final K key, final V value)
+	{
+		final Node<V> existing = index.get(key);
+
+		if (existing != null)
+		{
+			existing.value = value;
+			return;
+		}
+
+		final Node<V> node = new Node<>(value);
+
+		if (tail == null)
+		{
+			head = node;
+		}
+		else
+		{
+			tail.next = node;
+			node.prev = tail;
+		}
+
+		tail = node;
+		index.put(key, node);
+	}
+
+	@Nullable
+	public V get(final K key)
+	{
+		final Node<V> node = index.get(key);
+		return node == null ? null : node.value;
+	}
+
+	public boolean contains(final K key)
+	{
+		return index.containsKey(key);
+	}
+
+	@Nullable
+	public V remove(final K key)
+	{
+		final Node<V> node = index.remove(key);
+
+		if (node == null)
+		{
+			return null;
+		}
+
+		if (node.prev == null)
+		{
+			head = node.next;
+		}
+		else
+		{
+			node.prev.next = node.next;
+		}
+
+		if (node.next == null)
+		{
+			tail = node.prev;
+		}
+		else
+		{
+			node.next.prev = node.prev;
+		}
+
+		// Leave node.next intact so an iterator positioned on the removed node can continue,
+		// and flag the node so an iterator about to reach it skips it.
+		node.prev = null;
+		node.removed = true;
+
+		return node.value;
+	}
+
+	public int size()
+	{
+		return index.size();
+	}
+
+	public boolean isEmpty()
+	{
+		return head == null;
+	}
+
+	public void clear()
+	{
+		index.clear();
+		head = null;
+		tail = null;
+	}
+
+	@Override
+	public Iterator<V> iterator()
+	{
+		return new Iterator<V>()
+		{
+			private Node<V> next = head;
+
+			@Override
+			public boolean hasNext()
+			{
+				skipRemoved();
+				return next != null;
+			}
+
+			@Override
+			public V next()
+			{
+				skipRemoved();
+
+				if (next == null)
+				{
+					throw new NoSuchElementException();
+				}
+
+				final V value = next.value;
+				next = next.next;
+				return value;
+			}
+
+			private void skipRemoved()
+			{
+				while (next != null && next.removed)
+				{
+					next = next.next;
+				}
+			}
+		};
+	}
+
+	private static final class Node<V>
+	{
+		private V value;
+		private Node<V> prev;
+		private Node<V> next;
+		private boolean removed;
+
+		private Node(final V value)
+		{
+			this.value = value;
+		}
+	}
+}
@@ -27,9 +27,22 @@
 
 package ca.gauntlet.module;
 
+/**
+ * A part of the plugin that is only relevant in one area of The Gauntlet.
+ * <p>
+ * Subscriptions, overlays and highlighters are registered once in {@link #startUp()} and stay registered
+ * until {@link #shutDown()}. Entering and leaving the area only flips the active state, which handlers
+ * and overlays check before doing any work.
+ */
 public interface Module
 {
-	void start();
+	void startUp();
+
+	void shutDown();
+
+	void activate();
+
+	void deactivate();
 
-	void stop();
+	boolean isActive();
 }
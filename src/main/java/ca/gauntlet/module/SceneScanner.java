@@ -0,0 +1,73 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.module;
+
+import ca.gauntlet.module.EntityClassifier.Category;
+import java.util.function.Consumer;
+import net.runelite.api.GameObject;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+
+/**
+ * Walks the loaded scene once to discover entities that spawned before a module started listening.
+ */
+public final class SceneScanner
+{
+	private SceneScanner()
+	{
+	}
+
+	/**
+	 * Passes every classified game object in the scene to the consumer. Objects spanning several
+	 * tiles are reported once per tile, so the consumer is expected to be idempotent.
+	 */
+	public static void scanGameObjects(final Scene scene, final Consumer<GameObject> consumer)
+	{
+		for (final Tile[][] plane : scene.getTiles())
+		{
+			for (final Tile[] row : plane)
+			{
+				for (final Tile tile : row)
+				{
+					if (tile == null)
+					{
+						continue;
+					}
+
+					for (final GameObject gameObject : tile.getGameObjects())
+					{
+						if (gameObject != null && EntityClassifier.getObjectCategory(gameObject.getId()) != Category.NONE)
+						{
+							consumer.accept(gameObject);
+						}
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.module;
+
+import java.util.function.Consumer;
+
+/**
+ * Coalesces spawn and despawn events for the current tick so they can be applied as a single batch.
+ * <p>
+ * A spawn and despawn of the same entity before the batch is applied cancel out, so entities that
+ * flicker in and out during a scene load never reach the consumers.
+ */
+public final class SpawnBuffer<K>
+{
+	private final EntityRegistry<K, K> spawned = new EntityRegistry<>();
+	private final EntityRegistry<K, K> despawned = new EntityRegistry<>();
+
+	public void spawn(final K key)
+	{
+		if (despawned.remove(key) == null)
+		{
+			spawned.put(key, key);
+		}
+	}
+
+	public void despawn(final K key)
+	{
+		if (spawned.remove(key) == null)
+		{
+			despawned.put(key, key);
+		}
+	}
+
+	public boolean isEmpty()
+	{
+		return spawned.isEmpty() && despawned.isEmpty();
+	}
+
+	/**
+	 * Applies pending despawns followed by pending spawns, then clears the buffer.
+	 */
+	public void drain(final Consumer<K> onSpawn, final Consumer<K> onDespawn)
+	{
+		if (!despawned.isEmpty())
+		{
+			for (final K key : despawned)
+			{
+				onDespawn.accept(key);
+			}
+
+			despawned.clear();
+		}
+
+		if (!spawned.isEmpty())
+		{
+			for (final K key : spawned)
+			{
+				onSpawn.accept(key);
+			}
+
+			spawned.clear();
+		}
+	}
+
+	public void clear()
+	{
+		spawned.clear();
+		despawned.clear();
+	}
+}
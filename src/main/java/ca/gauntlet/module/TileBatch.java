@@ -0,0 +1,95 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.module;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.Stroke;
+import java.awt.geom.Path2D;
+
+/**
+ * Accumulates tile polygons that share a style into a single path so they can be stroked and
+ * filled with one call each, instead of one {@code OverlayUtil.renderPolygon} per tile.
+ */
+public final class TileBatch
+{
+	private final Path2D.Float path = new Path2D.Float();
+
+	private int size;
+
+	public void add(final Polygon polygon)
+	{
+		final int[] xs = polygon.xpoints;
+		final int[] ys = polygon.ypoints;
+
+		if (polygon.npoints == 0)
+		{
+			return;
+		}
+
+		path.moveTo(xs[0], ys[0]);
+
+		for (int i = 1; i < polygon.npoints; i++)
+		{
+			path.lineTo(xs[i], ys[i]);
+		}
+
+		path.closePath();
+		size++;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * Strokes and fills every added tile, matching {@code OverlayUtil.renderPolygon}, then resets
+	 * the batch while keeping its capacity for the next frame.
+	 */
+	public void render(final Graphics2D graphics2D, final Color outlineColor, final Color fillColor, final Stroke stroke)
+	{
+		if (size == 0)
+		{
+			return;
+		}
+
+		final Stroke originalStroke = graphics2D.getStroke();
+
+		graphics2D.setColor(outlineColor);
+		graphics2D.setStroke(stroke);
+		graphics2D.draw(path);
+		graphics2D.setColor(fillColor);
+		graphics2D.fill(path);
+		graphics2D.setStroke(originalStroke);
+
+		path.reset();
+		size = 0;
+	}
+}
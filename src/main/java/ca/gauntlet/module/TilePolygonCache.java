@@ -0,0 +1,131 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.module;
+
+import java.awt.Polygon;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.Perspective;
+import net.runelite.api.coords.LocalPoint;
+
+/**
+ * Caches canvas tile polygons of static scene locations for as long as the camera stays still.
+ * <p>
+ * Polygons are stored in a dense grid indexed by half-tile local coordinates and stamped with the
+ * camera generation they were projected in. Any change to the camera position, orientation, zoom,
+ * viewport or plane starts a new generation, which invalidates every entry at once.
+ */
+@Singleton
+public final class TilePolygonCache
+{
+	private static final int GRID_SIZE = Constants.SCENE_SIZE * 2;
+	private static final int HALF_TILE_BITS = Perspective.LOCAL_COORD_BITS - 1;
+	private static final int HALF_TILE_MASK = (1 << HALF_TILE_BITS) - 1;
+
+	private final Client client;
+
+	private final Polygon[] polygons = new Polygon[GRID_SIZE * GRID_SIZE];
+	private final int[] generations = new int[GRID_SIZE * GRID_SIZE];
+	private final int[] camera = new int[11];
+
+	@Getter
+	private int generation = 1;
+
+	@Inject
+	TilePolygonCache(final Client client)
+	{
+		this.client = client;
+	}
+
+	/**
+	 * Checks the camera state and starts a new generation if it changed since the last call.
+	 * Should be called at the start of each overlay render.
+	 */
+	public void update()
+	{
+		boolean changed = false;
+
+		changed |= set(0, client.getCameraX());
+		changed |= set(1, client.getCameraY());
+		changed |= set(2, client.getCameraZ());
+		changed |= set(3, client.getCameraPitch());
+		changed |= set(4, client.getCameraYaw());
+		changed |= set(5, client.getScale());
+		changed |= set(6, client.getViewportXOffset());
+		changed |= set(7, client.getViewportYOffset());
+		changed |= set(8, client.getViewportWidth());
+		changed |= set(9, client.getViewportHeight());
+		changed |= set(10, client.getPlane());
+
+		if (changed)
+		{
+			generation++;
+		}
+	}
+
+	@Nullable
+	public Polygon getTilePoly(final LocalPoint localPoint)
+	{
+		final int x = localPoint.getX();
+		final int y = localPoint.getY();
+
+		final int gridX = x >> HALF_TILE_BITS;
+		final int gridY = y >> HALF_TILE_BITS;
+
+		if ((x & HALF_TILE_MASK) != 0 || (y & HALF_TILE_MASK) != 0 ||
+			gridX < 0 || gridY < 0 || gridX >= GRID_SIZE || gridY >= GRID_SIZE)
+		{
+			return Perspective.getCanvasTilePoly(client, localPoint);
+		}
+
+		final int index = gridX * GRID_SIZE + gridY;
+
+		if (generations[index] != generation)
+		{
+			polygons[index] = Perspective.getCanvasTilePoly(client, localPoint);
+			generations[index] = generation;
+		}
+
+		return polygons[index];
+	}
+
+	private boolean set(final int index, final int value)
+	{
+		if (camera[index] == value)
+		{
+			return false;
+		}
+
+		camera[index] = value;
+		return true;
+	}
+}
@@ -27,10 +27,10 @@
 
 package ca.gauntlet.module.boss;
 
+import ca.gauntlet.module.EntityClassifier;
+import ca.gauntlet.module.EntityRegistry;
 import ca.gauntlet.module.Module;
 import ca.gauntlet.module.overlay.TimerOverlay;
-import java.util.ArrayList;
-import java.util.List;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -38,8 +38,6 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import net.runelite.api.Client;
 import net.runelite.api.NPC;
-import net.runelite.api.NpcID;
-import net.runelite.api.NullNpcID;
 import net.runelite.api.events.ActorDeath;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.NpcDespawned;
@@ -51,21 +49,8 @@ import net.runelite.client.ui.overlay.OverlayManager;
 @Singleton
 public final class BossModule implements Module
 {
-	private static final List<Integer> HUNLLEF_IDS = List.of(
-		NpcID.CRYSTALLINE_HUNLLEF,
-		NpcID.CRYSTALLINE_HUNLLEF_9022,
-		NpcID.CRYSTALLINE_HUNLLEF_9023,
-		NpcID.CRYSTALLINE_HUNLLEF_9024,
-		NpcID.CORRUPTED_HUNLLEF,
-		NpcID.CORRUPTED_HUNLLEF_9036,
-		NpcID.CORRUPTED_HUNLLEF_9037,
-		NpcID.CORRUPTED_HUNLLEF_9038
-	);
-
-	private static final List<Integer> TORNADO_IDS = List.of(NullNpcID.NULL_9025, NullNpcID.NULL_9039);
-
 	@Getter(AccessLevel.PACKAGE)
-	private final List<NPC> tornadoes = new ArrayList<>();
+	private final EntityRegistry<NPC, NPC> tornadoes = new EntityRegistry<>();
 
 	@Inject
 	private EventBus eventBus;
@@ -82,27 +67,51 @@ public final class BossModule implements Module
 	@Getter(AccessLevel.PACKAGE)
 	private NPC hunllef;
 
+	@Getter
+	private boolean active;
+
 	@Override
-	public void start()
+	public void startUp()
 	{
 		eventBus.register(this);
+		overlayManager.add(bossOverlay);
+	}
+
+	@Override
+	public void shutDown()
+	{
+		deactivate();
+		eventBus.unregister(this);
+		overlayManager.remove(bossOverlay);
+	}
+
+	@Override
+	public void activate()
+	{
+		if (active)
+		{
+			return;
+		}
+
+		active = true;
 
 		for (final NPC npc : client.getNpcs())
 		{
-			onNpcSpawned(new NpcSpawned(npc));
+			addNpc(npc);
 		}
 
-		overlayManager.add(timerOverlay);
-		overlayManager.add(bossOverlay);
 		timerOverlay.setHunllefStart();
 	}
 
 	@Override
-	public void stop()
+	public void deactivate()
 	{
-		eventBus.unregister(this);
-		overlayManager.remove(timerOverlay);
-		overlayManager.remove(bossOverlay);
+		if (!active)
+		{
+			return;
+		}
+
+		active = false;
 		timerOverlay.reset();
 		tornadoes.clear();
 		hunllef = null;
@@ -111,11 +120,16 @@ public final class BossModule implements Module
 	@Subscribe
 	void onGameStateChanged(final GameStateChanged event)
 	{
+		if (!active)
+		{
+			return;
+		}
+
 		switch (event.getGameState())
 		{
 			case LOGIN_SCREEN:
 			case HOPPING:
-				stop();
+				deactivate();
 				break;
 		}
 	}
@@ -123,39 +137,63 @@ public final class BossModule implements Module
 	@Subscribe
 	void onActorDeath(final ActorDeath event)
 	{
+		if (!active)
+		{
+			return;
+		}
+
 		if (event.getActor() == client.getLocalPlayer())
 		{
 			timerOverlay.onPlayerDeath();
 		}
+		else if (hunllef != null && event.getActor() == hunllef)
+		{
+			timerOverlay.onHunllefDeath();
+		}
 	}
 
 	@Subscribe
 	void onNpcSpawned(final NpcSpawned event)
 	{
-		final NPC npc = event.getNpc();
-
-		if (TORNADO_IDS.contains(npc.getId()))
-		{
-			tornadoes.add(npc);
-		}
-		else if (HUNLLEF_IDS.contains(npc.getId()))
+		if (!active)
 		{
-			hunllef = npc;
+			return;
 		}
+
+		addNpc(event.getNpc());
 	}
 
 	@Subscribe
 	void onNpcDespawned(final NpcDespawned event)
 	{
+		if (!active)
+		{
+			return;
+		}
+
 		final NPC npc = event.getNpc();
 
-		if (TORNADO_IDS.contains(npc.getId()))
+		switch (EntityClassifier.getNpcCategory(npc.getId()))
 		{
-			tornadoes.removeIf(t -> t == npc);
+			case TORNADO:
+				tornadoes.remove(npc);
+				break;
+			case HUNLLEF:
+				hunllef = null;
+				break;
 		}
-		else if (HUNLLEF_IDS.contains(npc.getId()))
+	}
+
+	private void addNpc(final NPC npc)
+	{
+		switch (EntityClassifier.getNpcCategory(npc.getId()))
 		{
-			hunllef = null;
+			case TORNADO:
+				tornadoes.put(npc, npc);
+				break;
+			case HUNLLEF:
+				hunllef = npc;
+				break;
 		}
 	}
 }
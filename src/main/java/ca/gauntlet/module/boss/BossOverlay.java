@@ -27,10 +27,13 @@
 
 package ca.gauntlet.module.boss;
 
-import ca.gauntlet.TheGauntletConfig;
+import ca.gauntlet.TheGauntletConfig.PrayerTileOutline;
 import ca.gauntlet.TheGauntletConfig.TileOutline;
 import ca.gauntlet.TheGauntletPlugin;
-import java.awt.BasicStroke;
+import ca.gauntlet.TheGauntletSettings;
+import ca.gauntlet.module.EntityClassifier;
+import ca.gauntlet.module.TileBatch;
+import ca.gauntlet.module.TilePolygonCache;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
@@ -39,8 +42,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
 import net.runelite.api.NPC;
-import net.runelite.api.NpcID;
-import net.runelite.api.Perspective;
+import net.runelite.api.Prayer;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.ui.overlay.Overlay;
@@ -53,21 +55,30 @@ import net.runelite.client.ui.overlay.OverlayUtil;
 class BossOverlay extends Overlay
 {
 	private final Client client;
-	private final TheGauntletConfig config;
+	private final TheGauntletPlugin plugin;
 	private final BossModule bossModule;
+	private final TilePolygonCache tilePolygonCache;
+	private final TileBatch tornadoTiles = new TileBatch();
+
+	private NPC hunllef;
+	private Polygon hunllefPolygon;
+	private int hunllefX;
+	private int hunllefY;
+	private int hunllefGeneration;
 
 	@Inject
 	public BossOverlay(
 		final Client client,
 		final TheGauntletPlugin plugin,
-		final TheGauntletConfig config,
-		final BossModule bossModule)
+		final BossModule bossModule,
+		final TilePolygonCache tilePolygonCache)
 	{
 		super(plugin);
 
 		this.client = client;
-		this.config = config;
+		this.plugin = plugin;
 		this.bossModule = bossModule;
+		this.tilePolygonCache = tilePolygonCache;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setPriority(OverlayPriority.HIGH);
@@ -77,19 +88,26 @@ class BossOverlay extends Overlay
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
-		renderTornadoes(graphics2D);
-		renderHunllef(graphics2D);
+		if (!bossModule.isActive())
+		{
+			return null;
+		}
+
+		final TheGauntletSettings settings = plugin.getSettings();
+		tilePolygonCache.update();
+		renderTornadoes(graphics2D, settings);
+		renderHunllef(graphics2D, settings);
 		return null;
 	}
 
-	private void renderTornadoes(final Graphics2D graphics2D)
+	private void renderTornadoes(final Graphics2D graphics2D, final TheGauntletSettings settings)
 	{
-		if (config.tornadoTileOutline() == TileOutline.OFF || bossModule.getTornadoes().isEmpty())
+		if (settings.tornadoTileOutline() == TileOutline.OFF || bossModule.getTornadoes().isEmpty())
 		{
 			return;
 		}
 
-		final boolean trueTile = config.tornadoTileOutline() == TileOutline.TRUE_TILE;
+		final boolean trueTile = settings.tornadoTileOutline() == TileOutline.TRUE_TILE;
 
 		for (final NPC tornado : bossModule.getTornadoes())
 		{
@@ -111,11 +129,11 @@ class BossOverlay extends Overlay
 					continue;
 				}
 
-				polygon = Perspective.getCanvasTilePoly(client, localPoint);
+				polygon = tilePolygonCache.getTilePoly(localPoint);
 			}
 			else
 			{
-				polygon = Perspective.getCanvasTilePoly(client, tornado.getLocalLocation());
+				polygon = tilePolygonCache.getTilePoly(tornado.getLocalLocation());
 			}
 
 			if (polygon == null)
@@ -123,76 +141,72 @@ class BossOverlay extends Overlay
 				continue;
 			}
 
-			OverlayUtil.renderPolygon(graphics2D, polygon, config.tornadoOutlineColor(), config.tornadoFillColor(),
-				new BasicStroke(config.tornadoTileOutlineWidth()));
+			tornadoTiles.add(polygon);
 		}
+
+		tornadoTiles.render(graphics2D, settings.tornadoOutlineColor(), settings.tornadoFillColor(),
+			settings.tornadoTileStroke());
 	}
 
-	private void renderHunllef(final Graphics2D graphics2D)
+	private void renderHunllef(final Graphics2D graphics2D, final TheGauntletSettings settings)
 	{
 		final NPC npc = bossModule.getHunllef();
 
-		if (npc == null || npc.isDead() || !config.hunllefTileOutline())
+		if (npc == null || npc.isDead() || !settings.hunllefTileOutline())
 		{
 			return;
 		}
 
-		final Polygon polygon = npc.getCanvasTilePoly();
+		final Polygon polygon = getHunllefPolygon(npc);
 
 		if (polygon == null)
 		{
 			return;
 		}
 
-		Color outlineColor = config.hunllefOutlineColor();
+		Color outlineColor = settings.hunllefOutlineColor();
 
-		switch (config.hunllefPrayerOutlineColor())
+		final Prayer prayer = EntityClassifier.getHunllefProtection(npc.getId());
+
+		if (prayer != null && settings.hunllefPrayerOutlineColor() != PrayerTileOutline.OFF)
 		{
-			case OFF:
-				break;
-			case ON:
-				switch (npc.getId())
-				{
-					// Protect from Melee
-					case NpcID.CORRUPTED_HUNLLEF:
-					case NpcID.CRYSTALLINE_HUNLLEF:
-						outlineColor = Color.RED;
-						break;
-					// Protect from Missiles
-					case NpcID.CRYSTALLINE_HUNLLEF_9022:
-					case NpcID.CORRUPTED_HUNLLEF_9036:
-						outlineColor = Color.GREEN;
-						break;
-					// Protect from Magic
-					case NpcID.CRYSTALLINE_HUNLLEF_9023:
-					case NpcID.CORRUPTED_HUNLLEF_9037:
-						outlineColor = Color.BLUE;
-						break;
-				}
-				break;
-			case INVERTED:
-				switch (npc.getId())
-				{
-					// Protect from Melee
-					case NpcID.CORRUPTED_HUNLLEF:
-					case NpcID.CRYSTALLINE_HUNLLEF:
-						outlineColor = Color.RED;
-						break;
-					// Protect from Missiles
-					case NpcID.CRYSTALLINE_HUNLLEF_9022:
-					case NpcID.CORRUPTED_HUNLLEF_9036:
-						outlineColor = Color.BLUE;
-						break;
-					// Protect from Magic
-					case NpcID.CRYSTALLINE_HUNLLEF_9023:
-					case NpcID.CORRUPTED_HUNLLEF_9037:
-						outlineColor = Color.GREEN;
-						break;
-				}
-				break;
+			final boolean inverted = settings.hunllefPrayerOutlineColor() == PrayerTileOutline.INVERTED;
+
+			switch (prayer)
+			{
+				case PROTECT_FROM_MELEE:
+					outlineColor = Color.RED;
+					break;
+				case PROTECT_FROM_MISSILES:
+					outlineColor = inverted ? Color.BLUE : Color.GREEN;
+					break;
+				case PROTECT_FROM_MAGIC:
+					outlineColor = inverted ? Color.GREEN : Color.BLUE;
+					break;
+			}
+		}
+
+		OverlayUtil.renderPolygon(graphics2D, polygon, outlineColor, settings.hunllefFillColor(),
+			settings.hunllefTileStroke());
+	}
+
+	// The hunllef tile is re-projected only when the hunllef moves or the camera changes.
+	private Polygon getHunllefPolygon(final NPC npc)
+	{
+		final LocalPoint localPoint = npc.getLocalLocation();
+
+		if (npc != hunllef ||
+			localPoint.getX() != hunllefX ||
+			localPoint.getY() != hunllefY ||
+			tilePolygonCache.getGeneration() != hunllefGeneration)
+		{
+			hunllef = npc;
+			hunllefX = localPoint.getX();
+			hunllefY = localPoint.getY();
+			hunllefGeneration = tilePolygonCache.getGeneration();
+			hunllefPolygon = npc.getCanvasTilePoly();
 		}
 
-		OverlayUtil.renderPolygon(graphics2D, polygon, outlineColor, config.hunllefFillColor(),
-			new BasicStroke(config.hunllefTileOutlineWidth()));
+		return hunllefPolygon;
 	}
 }
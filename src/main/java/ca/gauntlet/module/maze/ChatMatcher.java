@@ -0,0 +1,452 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.module.maze;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matches resource chat messages against templates compiled once from the {@link Resource} definitions.
+ * <p>
+ * Matches are returned packed into an int holding the resource ordinal and quantity, or {@link #NO_MATCH}.
+ * Templates are bucketed per region by the first character following the shared "You " prefix, so most
+ * unrelated lines are rejected after a handful of character comparisons.
+ * <p>
+ * Loot drop lines are scanned in place, skipping markup tags as they are encountered, and the item name is
+ * resolved through a per-region open-addressed hash of resource names. Neither path allocates.
+ */
+final class ChatMatcher
+{
+	static final int NO_MATCH = -1;
+
+	private static final String PREFIX = "You ";
+	private static final String QUANTITY = "%d";
+	private static final String DROP = " drop:";
+	private static final String DROP_QUANTITY = " x ";
+	private static final int BUCKETS = 128;
+	private static final int QUANTITY_BITS = 24;
+	private static final int QUANTITY_MASK = (1 << QUANTITY_BITS) - 1;
+
+	private static final Resource[] RESOURCES = Resource.values();
+
+	private static final Template[][] NORMAL_TEMPLATES = compile(false);
+	private static final Template[][] CORRUPTED_TEMPLATES = compile(true);
+
+	private static final int NAME_TABLE_SIZE = 32;
+	private static final int NAME_TABLE_MASK = NAME_TABLE_SIZE - 1;
+
+	private static final DropName[] NORMAL_NAMES = compileNames(false);
+	private static final DropName[] CORRUPTED_NAMES = compileNames(true);
+
+	private ChatMatcher()
+	{
+	}
+
+	static int matchSkillMessage(final String message, final boolean corrupted)
+	{
+		final int length = message.length();
+
+		if (length <= PREFIX.length() || !message.startsWith(PREFIX))
+		{
+			return NO_MATCH;
+		}
+
+		final char key = message.charAt(PREFIX.length());
+
+		if (key >= BUCKETS)
+		{
+			return NO_MATCH;
+		}
+
+		final Template[] bucket = (corrupted ? CORRUPTED_TEMPLATES : NORMAL_TEMPLATES)[key];
+
+		if (bucket == null)
+		{
+			return NO_MATCH;
+		}
+
+		for (final Template template : bucket)
+		{
+			final int quantity = template.match(message);
+
+			if (quantity != NO_MATCH)
+			{
+				return pack(template.resource, quantity);
+			}
+		}
+
+		return NO_MATCH;
+	}
+
+	/**
+	 * Equivalent to matching {@code ^.+ drop:\s+((\d+) x )?(.+)$} against the message with tags removed,
+	 * for quantities below 2^24.
+	 */
+	static int matchDropMessage(final CharSequence message, final boolean corrupted)
+	{
+		final int length = message.length();
+
+		// Like the greedy regex prefix, the last " drop:" followed by whitespace and more text is used
+		int start = -1;
+		int matched = 0;
+		boolean visible = false;
+
+		for (int i = skipTags(message, 0); i < length; i = skipTags(message, i + 1))
+		{
+			final char c = message.charAt(i);
+
+			if (matched == DROP.length())
+			{
+				if (isWhitespace(c) && skipTags(message, i + 1) < length)
+				{
+					start = i;
+				}
+
+				matched = 0;
+			}
+
+			if (visible && c == DROP.charAt(matched))
+			{
+				matched++;
+			}
+			else
+			{
+				matched = visible && c == ' ' ? 1 : 0;
+			}
+
+			visible = true;
+		}
+
+		if (start == -1)
+		{
+			return NO_MATCH;
+		}
+
+		int i = start;
+
+		while (i < length && isWhitespace(message.charAt(i)))
+		{
+			i = skipTags(message, i + 1);
+		}
+
+		int quantity = 0;
+		int j = i;
+
+		while (j < length && quantity <= QUANTITY_MASK / 10)
+		{
+			final char c = message.charAt(j);
+
+			if (c < '0' || c > '9')
+			{
+				break;
+			}
+
+			quantity = quantity * 10 + (c - '0');
+			j = skipTags(message, j + 1);
+		}
+
+		if (j > i && (j = skipLiteral(message, j, DROP_QUANTITY)) != -1)
+		{
+			i = j;
+		}
+		else
+		{
+			quantity = 1;
+		}
+
+		int hash = 0;
+		int nameLength = 0;
+
+		for (int k = i; k < length; k = skipTags(message, k + 1))
+		{
+			hash = 31 * hash + message.charAt(k);
+			nameLength++;
+		}
+
+		if (nameLength == 0)
+		{
+			return NO_MATCH;
+		}
+
+		final DropName[] names = corrupted ? CORRUPTED_NAMES : NORMAL_NAMES;
+
+		for (int slot = mix(hash) & NAME_TABLE_MASK; names[slot] != null; slot = (slot + 1) & NAME_TABLE_MASK)
+		{
+			final DropName name = names[slot];
+
+			if (name.hash == hash && name.name.length() == nameLength && name.matches(message, i))
+			{
+				return pack(name.resource, quantity);
+			}
+		}
+
+		return NO_MATCH;
+	}
+
+	static Resource getResource(final int match)
+	{
+		return RESOURCES[match >>> QUANTITY_BITS];
+	}
+
+	static int getQuantity(final int match)
+	{
+		return match & QUANTITY_MASK;
+	}
+
+	static int pack(final Resource resource, final int quantity)
+	{
+		return resource.ordinal() << QUANTITY_BITS | Math.min(quantity, QUANTITY_MASK);
+	}
+
+	private static Template[][] compile(final boolean corrupted)
+	{
+		final List<List<Template>> buckets = new ArrayList<>(BUCKETS);
+
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			buckets.add(null);
+		}
+
+		for (final Resource resource : RESOURCES)
+		{
+			final String message = resource.getMessage();
+
+			if (message == null || (resource.isCorrupted() != corrupted && resource != Resource.RAW_PADDLEFISH))
+			{
+				continue;
+			}
+
+			if (!message.startsWith(PREFIX))
+			{
+				throw new IllegalStateException("Unsupported resource message: " + message);
+			}
+
+			final char key = message.charAt(PREFIX.length());
+
+			List<Template> bucket = buckets.get(key);
+
+			if (bucket == null)
+			{
+				bucket = new ArrayList<>();
+				buckets.set(key, bucket);
+			}
+
+			bucket.add(new Template(resource, message));
+		}
+
+		final Template[][] templates = new Template[BUCKETS][];
+
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			final List<Template> bucket = buckets.get(i);
+
+			if (bucket != null)
+			{
+				templates[i] = bucket.toArray(new Template[0]);
+			}
+		}
+
+		return templates;
+	}
+
+	private static DropName[] compileNames(final boolean corrupted)
+	{
+		final DropName[] names = new DropName[NAME_TABLE_SIZE];
+
+		for (final Resource resource : RESOURCES)
+		{
+			if (resource.isCorrupted() != corrupted && resource != Resource.RAW_PADDLEFISH)
+			{
+				continue;
+			}
+
+			final String name = resource.toString();
+			final int hash = name.hashCode();
+
+			int slot = mix(hash) & NAME_TABLE_MASK;
+
+			while (names[slot] != null && !names[slot].name.equals(name))
+			{
+				slot = (slot + 1) & NAME_TABLE_MASK;
+			}
+
+			if (names[slot] == null)
+			{
+				names[slot] = new DropName(resource, name, hash);
+			}
+		}
+
+		return names;
+	}
+
+	/**
+	 * Matches the regex {@code \s} class, which unlike {@link Character#isWhitespace} is ASCII only.
+	 */
+	private static boolean isWhitespace(final char c)
+	{
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	private static int mix(final int hash)
+	{
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * Returns the index of the first character at or after {@code index} that is not part of a tag.
+	 * An unterminated '<' is treated as text, matching {@code Text.removeTags}.
+	 */
+	private static int skipTags(final CharSequence message, int index)
+	{
+		final int length = message.length();
+
+		while (index < length && message.charAt(index) == '<')
+		{
+			int end = index + 1;
+
+			while (end < length && message.charAt(end) != '>')
+			{
+				end++;
+			}
+
+			if (end == length)
+			{
+				return index;
+			}
+
+			index = end + 1;
+		}
+
+		return index;
+	}
+
+	private static int skipLiteral(final CharSequence message, int index, final String literal)
+	{
+		final int length = message.length();
+
+		for (int i = 0; i < literal.length(); i++)
+		{
+			if (index >= length || message.charAt(index) != literal.charAt(i))
+			{
+				return -1;
+			}
+
+			index = skipTags(message, index + 1);
+		}
+
+		return index;
+	}
+
+	private static final class DropName
+	{
+		private final Resource resource;
+		private final String name;
+		private final int hash;
+
+		private DropName(final Resource resource, final String name, final int hash)
+		{
+			this.resource = resource;
+			this.name = name;
+			this.hash = hash;
+		}
+
+		private boolean matches(final CharSequence message, int index)
+		{
+			for (int i = 0; i < name.length(); i++)
+			{
+				if (message.charAt(index) != name.charAt(i))
+				{
+					return false;
+				}
+
+				index = skipTags(message, index + 1);
+			}
+
+			return true;
+		}
+	}
+
+	private static final class Template
+	{
+		private final Resource resource;
+		private final String prefix;
+		private final String suffix;
+		private final boolean quantity;
+
+		private Template(final Resource resource, final String message)
+		{
+			this.resource = resource;
+
+			final int index = message.indexOf(QUANTITY);
+
+			if (index == -1)
+			{
+				prefix = message;
+				suffix = "";
+				quantity = false;
+			}
+			else
+			{
+				prefix = message.substring(0, index);
+				suffix = message.substring(index + QUANTITY.length());
+				quantity = true;
+			}
+		}
+
+		private int match(final String message)
+		{
+			if (!quantity)
+			{
+				return message.equals(prefix) ? 1 : NO_MATCH;
+			}
+
+			final int end = message.length() - suffix.length();
+
+			if (end <= prefix.length() || !message.startsWith(prefix) || !message.endsWith(suffix))
+			{
+				return NO_MATCH;
+			}
+
+			int value = 0;
+
+			for (int i = prefix.length(); i < end; i++)
+			{
+				final char c = message.charAt(i);
+
+				if (c < '0' || c > '9' || value > QUANTITY_MASK / 10)
+				{
+					return NO_MATCH;
+				}
+
+				value = value * 10 + (c - '0');
+			}
+
+			return value;
+		}
+	}
+}
@@ -27,64 +27,38 @@
 
 package ca.gauntlet.module.maze;
 
+import ca.gauntlet.module.EntityClassifier;
 import java.awt.image.BufferedImage;
-import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import net.runelite.api.NPC;
-import net.runelite.api.NpcID;
-import net.runelite.api.Point;
 import net.runelite.api.Skill;
-import net.runelite.client.game.SkillIconManager;
 
 class Demiboss
 {
+	@Getter(AccessLevel.PACKAGE)
 	private final NPC npc;
 
 	@Getter(AccessLevel.PACKAGE)
 	private final BufferedImage minimapIcon;
 
-	Demiboss(@NonNull final NPC npc, @NonNull final SkillIconManager skillIconManager)
+	Demiboss(@NonNull final NPC npc, @NonNull final IconCache iconCache)
 	{
 		this.npc = npc;
-		minimapIcon = getIcon(npc, skillIconManager);
+		minimapIcon = getIcon(npc, iconCache);
 	}
 
-	boolean isNpc(final NPC npc)
+	private static BufferedImage getIcon(final NPC npc, final IconCache iconCache)
 	{
-		return this.npc == npc;
-	}
+		final Skill skill = EntityClassifier.getDemibossSkill(npc.getId());
 
-	@Nullable
-	Point getMinimapPoint()
-	{
-		final Point point = npc.getMinimapLocation();
-
-		if (point == null)
+		if (skill == null)
 		{
-			return null;
+			throw new IllegalArgumentException("Unsupported npc id: " + npc.getId());
 		}
 
-		return new Point(point.getX() - minimapIcon.getHeight() / 2, point.getY() - minimapIcon.getWidth() / 2);
-	}
-
-	private static BufferedImage getIcon(final NPC npc, final SkillIconManager skillIconManager)
-	{
-		switch (npc.getId())
-		{
-			case NpcID.CRYSTALLINE_BEAR:
-			case NpcID.CORRUPTED_BEAR:
-				return skillIconManager.getSkillImage(Skill.ATTACK, true);
-			case NpcID.CRYSTALLINE_DARK_BEAST:
-			case NpcID.CORRUPTED_DARK_BEAST:
-				return skillIconManager.getSkillImage(Skill.RANGED, true);
-			case NpcID.CRYSTALLINE_DRAGON:
-			case NpcID.CORRUPTED_DRAGON:
-				return skillIconManager.getSkillImage(Skill.MAGIC, true);
-			default:
-				throw new IllegalArgumentException("Unsupported npc id: " + npc.getId());
-		}
+		return iconCache.getMinimapIcon(skill);
 	}
 
 	@Override
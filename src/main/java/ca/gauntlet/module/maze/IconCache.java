@@ -0,0 +1,121 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.module.maze;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Skill;
+import net.runelite.client.game.SkillIconManager;
+import net.runelite.client.util.ImageUtil;
+
+/**
+ * Shared icons for resource nodes and demi-bosses.
+ * <p>
+ * Resized resource icons are cached per (resource, size) so that every node of a kind shares
+ * a single image and a size change costs one resize per kind.
+ */
+@Singleton
+class IconCache
+{
+	private static final int DEFAULT_ICON_SIZE = 14;
+	private static final int MAX_ICON_SIZE = 64;
+	private static final Resource[] RESOURCES = Resource.values();
+
+	private final SkillIconManager skillIconManager;
+	private final BufferedImage[][] iconsBySize = new BufferedImage[RESOURCES.length][];
+
+	@Inject
+	IconCache(final SkillIconManager skillIconManager)
+	{
+		this.skillIconManager = skillIconManager;
+	}
+
+	// Synchronized as icons are prewarmed off the client thread
+	synchronized BufferedImage getIcon(final Resource resource, final int iconSize)
+	{
+		final int size = iconSize <= 0 ? DEFAULT_ICON_SIZE : Math.min(iconSize, MAX_ICON_SIZE);
+
+		BufferedImage[] icons = iconsBySize[resource.ordinal()];
+
+		if (icons == null)
+		{
+			icons = new BufferedImage[MAX_ICON_SIZE + 1];
+			iconsBySize[resource.ordinal()] = icons;
+		}
+
+		BufferedImage icon = icons[size];
+
+		if (icon == null)
+		{
+			icon = ImageUtil.resizeImage(skillIconManager.getSkillImage(getSkill(resource), false), size, size);
+			icons[size] = icon;
+		}
+
+		return icon;
+	}
+
+	synchronized void clear()
+	{
+		Arrays.fill(iconsBySize, null);
+	}
+
+	BufferedImage getMinimapIcon(final Resource resource)
+	{
+		return skillIconManager.getSkillImage(getSkill(resource), true);
+	}
+
+	BufferedImage getMinimapIcon(final Skill skill)
+	{
+		return skillIconManager.getSkillImage(skill, true);
+	}
+
+	private static Skill getSkill(final Resource resource)
+	{
+		switch (resource)
+		{
+			case RAW_PADDLEFISH:
+				return Skill.FISHING;
+			case CRYSTAL_ORE:
+			case CORRUPTED_ORE:
+				return Skill.MINING;
+			case PHREN_BARK:
+			case CORRUPTED_PHREN_BARK:
+				return Skill.WOODCUTTING;
+			case LINUM_TIRINUM:
+			case CORRUPTED_LINUM_TIRINUM:
+				return Skill.FARMING;
+			case GRYM_LEAF:
+			case CORRUPTED_GRYM_LEAF:
+				return Skill.HERBLORE;
+			default:
+				throw new IllegalArgumentException("Unsupported resource: " + resource);
+		}
+	}
+}
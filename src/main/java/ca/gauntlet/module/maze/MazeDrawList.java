@@ -0,0 +1,188 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.module.maze;
+
+import ca.gauntlet.TheGauntletPlugin;
+import ca.gauntlet.TheGauntletSettings;
+import java.util.Arrays;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.AccessLevel;
+import lombok.Getter;
+import net.runelite.api.Client;
+import net.runelite.api.Perspective;
+import net.runelite.api.Player;
+import net.runelite.api.coords.LocalPoint;
+
+/**
+ * Pre-filtered and pre-styled resource nodes for the maze overlays.
+ * <p>
+ * The underlying state only changes on spawns, config changes and tracker updates, so the lists are
+ * rebuilt once when marked dirty (at the latest on the next game tick or frame) and the overlays
+ * only walk the resulting arrays.
+ */
+@Singleton
+class MazeDrawList
+{
+	private static final int INITIAL_CAPACITY = 32;
+
+	private final Client client;
+	private final TheGauntletPlugin plugin;
+	private final MazeModule mazeModule;
+	private final ResourceManager resourceManager;
+	private final ResourceStyleTable resourceStyleTable;
+
+	@Getter(AccessLevel.PACKAGE)
+	private ResourceGameObject[] sceneResources = new ResourceGameObject[INITIAL_CAPACITY];
+	@Getter(AccessLevel.PACKAGE)
+	private ResourceStyle[] sceneStyles = new ResourceStyle[INITIAL_CAPACITY];
+	@Getter(AccessLevel.PACKAGE)
+	private int[] sceneDistances = new int[INITIAL_CAPACITY];
+	@Getter(AccessLevel.PACKAGE)
+	private int sceneSize;
+
+	@Getter(AccessLevel.PACKAGE)
+	private ResourceGameObject[] minimapResources = new ResourceGameObject[INITIAL_CAPACITY];
+	@Getter(AccessLevel.PACKAGE)
+	private int minimapSize;
+
+	private boolean dirty = true;
+
+	@Inject
+	MazeDrawList(
+		final Client client,
+		final TheGauntletPlugin plugin,
+		final MazeModule mazeModule,
+		final ResourceManager resourceManager,
+		final ResourceStyleTable resourceStyleTable)
+	{
+		this.client = client;
+		this.plugin = plugin;
+		this.mazeModule = mazeModule;
+		this.resourceManager = resourceManager;
+		this.resourceStyleTable = resourceStyleTable;
+	}
+
+	void markDirty()
+	{
+		dirty = true;
+	}
+
+	void update()
+	{
+		if (!dirty)
+		{
+			return;
+		}
+
+		final TheGauntletSettings settings = plugin.getSettings();
+		final ResourceStyle[] styles = resourceStyleTable.getStyles();
+		final boolean removeAcquired = settings.resourceTracker() && settings.resourceRemoveOutlineOnceAcquired();
+		final int capacity = mazeModule.getResourceGameObjects().size();
+
+		if (sceneResources.length < capacity)
+		{
+			final int length = Math.max(capacity, sceneResources.length * 2);
+			sceneResources = new ResourceGameObject[length];
+			sceneStyles = new ResourceStyle[length];
+			sceneDistances = new int[length];
+			minimapResources = new ResourceGameObject[length];
+		}
+
+		int sceneSize = 0;
+		int minimapSize = 0;
+
+		for (final ResourceGameObject resourceGameObject : mazeModule.getResourceGameObjects())
+		{
+			final Resource resource = resourceGameObject.getResource();
+
+			if (removeAcquired && resourceManager.hasAcquired(resource))
+			{
+				continue;
+			}
+
+			minimapResources[minimapSize++] = resourceGameObject;
+
+			final ResourceStyle style = styles[resource.ordinal()];
+
+			if (style.isEnabled())
+			{
+				sceneResources[sceneSize] = resourceGameObject;
+				sceneStyles[sceneSize++] = style;
+			}
+		}
+
+		// Release references to despawned objects
+		Arrays.fill(sceneResources, sceneSize, Math.max(sceneSize, this.sceneSize), null);
+		Arrays.fill(sceneStyles, sceneSize, Math.max(sceneSize, this.sceneSize), null);
+		Arrays.fill(minimapResources, minimapSize, Math.max(minimapSize, this.minimapSize), null);
+
+		this.sceneSize = sceneSize;
+		this.minimapSize = minimapSize;
+
+		dirty = false;
+
+		updateDistances();
+	}
+
+	/**
+	 * Recomputes the tile distance of every scene resource from the local player, which selects the
+	 * level of detail each node is drawn with. Called every game tick as the player moves.
+	 */
+	void updateDistances()
+	{
+		final Player player = client.getLocalPlayer();
+
+		if (player == null)
+		{
+			return;
+		}
+
+		final LocalPoint playerLocation = player.getLocalLocation();
+
+		for (int i = 0; i < sceneSize; i++)
+		{
+			final LocalPoint location = sceneResources[i].getLocalLocation();
+
+			final int dx = Math.abs(location.getX() - playerLocation.getX());
+			final int dy = Math.abs(location.getY() - playerLocation.getY());
+
+			sceneDistances[i] = Math.max(dx, dy) >> Perspective.LOCAL_COORD_BITS;
+		}
+	}
+
+	void clear()
+	{
+		Arrays.fill(sceneResources, 0, sceneSize, null);
+		Arrays.fill(sceneStyles, 0, sceneSize, null);
+		Arrays.fill(minimapResources, 0, minimapSize, null);
+		sceneSize = 0;
+		minimapSize = 0;
+		dirty = true;
+	}
+}
@@ -27,34 +27,46 @@
 
 package ca.gauntlet.module.maze;
 
+import ca.gauntlet.ConfigScope;
 import ca.gauntlet.TheGauntletConfig;
+import ca.gauntlet.TheGauntletPlugin;
+import ca.gauntlet.TheGauntletSettings;
+import ca.gauntlet.history.Split;
+import ca.gauntlet.module.EntityClassifier;
+import ca.gauntlet.module.EntityClassifier.Category;
+import ca.gauntlet.module.EntityRegistry;
 import ca.gauntlet.module.Module;
+import ca.gauntlet.module.SceneScanner;
+import ca.gauntlet.module.SpawnBuffer;
 import ca.gauntlet.module.overlay.TimerOverlay;
 import java.awt.Color;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.AccessLevel;
 import lombok.Getter;
+import net.runelite.api.Actor;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.InventoryID;
+import net.runelite.api.Item;
 import net.runelite.api.ItemContainer;
-import static net.runelite.api.ItemID.RAW_PADDLEFISH;
+import net.runelite.api.ItemID;
 import net.runelite.api.MenuEntry;
 import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
-import net.runelite.api.ObjectID;
+import net.runelite.api.Skill;
 import net.runelite.api.events.ActorDeath;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameObjectDespawned;
 import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
 import net.runelite.api.events.PostMenuSort;
@@ -64,7 +76,6 @@ import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
-import net.runelite.client.game.SkillIconManager;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
 import net.runelite.client.game.npcoverlay.NpcOverlayService;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -72,43 +83,28 @@ import net.runelite.client.ui.overlay.OverlayManager;
 @Singleton
 public final class MazeModule implements Module
 {
-	private static final List<Integer> NPC_IDS_DEMIBOSS = List.of(
-		NpcID.CRYSTALLINE_BEAR,
-		NpcID.CRYSTALLINE_DARK_BEAST,
-		NpcID.CRYSTALLINE_DRAGON,
-		NpcID.CORRUPTED_BEAR,
-		NpcID.CORRUPTED_DARK_BEAST,
-		NpcID.CORRUPTED_DRAGON
-	);
-	private static final List<Integer> GAME_OBJECT_IDS_RESOURCE = List.of(
-		ObjectID.CRYSTAL_DEPOSIT,
-		ObjectID.PHREN_ROOTS,
-		ObjectID.FISHING_SPOT_36068,
-		ObjectID.GRYM_ROOT,
-		ObjectID.LINUM_TIRINUM,
-		ObjectID.CORRUPT_DEPOSIT,
-		ObjectID.CORRUPT_PHREN_ROOTS,
-		ObjectID.CORRUPT_FISHING_SPOT,
-		ObjectID.CORRUPT_GRYM_ROOT,
-		ObjectID.CORRUPT_LINUM_TIRINUM
-	);
-	private static final List<Integer> GAME_OBJECT_IDS_UTILITY = List.of(
-		ObjectID.SINGING_BOWL_35966,
-		ObjectID.RANGE_35980,
-		ObjectID.WATER_PUMP_35981,
-		ObjectID.SINGING_BOWL_36063,
-		ObjectID.RANGE_36077,
-		ObjectID.WATER_PUMP_36078
-	);
-
 	@Getter(AccessLevel.PACKAGE)
-	private final Set<ResourceGameObject> resourceGameObjects = new HashSet<>();
+	private final EntityRegistry<GameObject, ResourceGameObject> resourceGameObjects = new EntityRegistry<>();
 	@Getter(AccessLevel.PACKAGE)
-	private final Set<Demiboss> demiBosses = new HashSet<>();
+	private final EntityRegistry<NPC, Demiboss> demiBosses = new EntityRegistry<>();
 	@Getter(AccessLevel.PACKAGE)
-	private final Set<GameObject> utilities = new HashSet<>();
+	private final EntityRegistry<GameObject, GameObject> utilities = new EntityRegistry<>();
 	private final Function<NPC, HighlightedNpc> npcHighlighter = this::highlightNpc;
 
+	// Spawn bursts during scene loads are applied once per tick or frame
+	private final SpawnBuffer<GameObject> pendingGameObjects = new SpawnBuffer<>();
+	private final SpawnBuffer<NPC> pendingNpcs = new SpawnBuffer<>();
+	private final Consumer<GameObject> gameObjectAdder = this::addGameObject;
+	private final Consumer<GameObject> gameObjectRemover = this::removeGameObject;
+	private final Consumer<NPC> npcAdder = this::addNpc;
+	private final Consumer<NPC> npcRemover = this::removeNpc;
+
+	// Maintained from inventory changes so menu sorting does not scan the inventory
+	private boolean hasRawFish;
+	// Set from config changes, which are posted off the client thread
+	private volatile boolean npcRebuildPending;
+	private volatile boolean styleRebuildPending;
+
 	@Inject
 	private EventBus eventBus;
 	@Inject
@@ -116,44 +112,123 @@ public final class MazeModule implements Module
 	@Inject
 	private ClientThread clientThread;
 	@Inject
-	private TheGauntletConfig config;
+	private TheGauntletPlugin plugin;
 	@Inject
 	private NpcOverlayService npcOverlayService;
 	@Inject
 	private ResourceManager resourceManager;
 	@Inject
-	private SkillIconManager skillIconManager;
+	private IconCache iconCache;
 	@Inject
 	private OverlayManager overlayManager;
 	@Inject
+	private MazeDrawList mazeDrawList;
+	@Inject
+	private ResourceStyleTable resourceStyleTable;
+	@Inject
 	private MazeOverlay mazeOverlay;
 	@Inject
 	private MinimapOverlay minimapOverlay;
 	@Inject
+	private ResourceCounterOverlay resourceCounterOverlay;
+	@Inject
 	private TimerOverlay timerOverlay;
 
+	@Getter
+	private boolean active;
+
 	@Override
-	public void start()
+	public void startUp()
 	{
 		eventBus.register(this);
 		npcOverlayService.registerHighlighter(npcHighlighter);
 		overlayManager.add(mazeOverlay);
 		overlayManager.add(minimapOverlay);
-		overlayManager.add(timerOverlay);
+		overlayManager.add(resourceCounterOverlay);
 	}
 
 	@Override
-	public void stop()
+	public void shutDown()
 	{
+		deactivate();
 		eventBus.unregister(this);
 		npcOverlayService.unregisterHighlighter(npcHighlighter);
 		overlayManager.remove(mazeOverlay);
 		overlayManager.remove(minimapOverlay);
-		overlayManager.remove(timerOverlay);
+		overlayManager.remove(resourceCounterOverlay);
+		resourceManager.clearPool();
+		resourceStyleTable.clear();
+		iconCache.clear();
+	}
+
+	/**
+	 * Builds icons, item images, style and lookup tables ahead of the first maze entry.
+	 * Only touches thread-safe caches, so it can run off the client thread.
+	 */
+	public void prewarm()
+	{
+		final ResourceStyle[] styles = resourceStyleTable.getStyles();
+
+		for (final Resource resource : Resource.values())
+		{
+			if (styles[resource.ordinal()] != null)
+			{
+				iconCache.getMinimapIcon(resource);
+			}
+		}
+
+		iconCache.getMinimapIcon(Skill.ATTACK);
+		iconCache.getMinimapIcon(Skill.RANGED);
+		iconCache.getMinimapIcon(Skill.MAGIC);
+
+		resourceManager.prewarm();
+
+		// Run the static initialisers of the lookup tables
+		EntityClassifier.getObjectCategory(-1);
+		ChatMatcher.matchSkillMessage("", false);
+	}
+
+	@Override
+	public void activate()
+	{
+		if (active)
+		{
+			return;
+		}
+
+		active = true;
+		hasRawFish = containsRawFish(client.getItemContainer(InventoryID.INVENTORY));
+		scanScene();
+		npcOverlayService.rebuild();
+	}
+
+	@Override
+	public void deactivate()
+	{
+		if (!active)
+		{
+			return;
+		}
+
+		active = false;
+		timerOverlay.setResourceCounts(resourceManager.getGathered());
 		resourceManager.reset();
 		resourceGameObjects.clear();
 		utilities.clear();
 		demiBosses.clear();
+		pendingGameObjects.clear();
+		pendingNpcs.clear();
+		mazeDrawList.clear();
+		hasRawFish = false;
+		npcRebuildPending = false;
+
+		if (styleRebuildPending)
+		{
+			styleRebuildPending = false;
+			resourceStyleTable.clear();
+		}
+
+		npcOverlayService.rebuild();
 	}
 
 	@Subscribe
@@ -164,40 +239,69 @@ public final class MazeModule implements Module
 			return;
 		}
 
-		clientThread.invoke(() -> {
-			switch (event.getKey())
+		final ConfigScope scope = ConfigScope.fromKey(event.getKey());
+
+		if (!active)
+		{
+			// Nothing is drawn between runs, so the style table is cleared straight away and the
+			// pending flags are left for changes made during a run
+			if (scope == null || scope == ConfigScope.MAZE_OVERLAY)
 			{
-				case "resourceIconSize":
-					if (!resourceGameObjects.isEmpty())
-					{
-						resourceGameObjects.forEach(r -> r.setIconSize(config.resourceIconSize()));
-					}
-					break;
-				case "resourceTracker":
-				case "resourceTrackingMode":
-				case "resourceRemoveAcquired":
-					resourceManager.reset();
-					resourceManager.init(client.getMapRegions()[0]);
-					break;
-				default:
-					npcOverlayService.rebuild();
-					break;
+				resourceStyleTable.clear();
 			}
-		});
+
+			return;
+		}
+
+		if (scope == null)
+		{
+			npcRebuildPending = true;
+			styleRebuildPending = true;
+			return;
+		}
+
+		switch (scope)
+		{
+			case NPC_HIGHLIGHT:
+				// Coalesced so that dragging a color picker rebuilds highlights at most once per tick.
+				npcRebuildPending = true;
+				break;
+			case MAZE_OVERLAY:
+				// Coalesced the same way for resource styles and the draw list
+				styleRebuildPending = true;
+				break;
+			case TRACKER:
+				clientThread.invoke(() -> {
+					resourceManager.reconfigure();
+					mazeDrawList.markDirty();
+				});
+				break;
+			case TIMER:
+			case BOSS:
+				// Read from the settings snapshot on use
+				break;
+		}
 	}
 
 	@Subscribe
 	void onGameStateChanged(final GameStateChanged event)
 	{
+		if (!active)
+		{
+			return;
+		}
+
 		switch (event.getGameState())
 		{
 			case LOADING:
 				resourceGameObjects.clear();
 				utilities.clear();
+				pendingGameObjects.clear();
+				mazeDrawList.markDirty();
 				break;
 			case LOGIN_SCREEN:
 			case HOPPING:
-				stop();
+				deactivate();
 				break;
 		}
 	}
@@ -205,119 +309,374 @@ public final class MazeModule implements Module
 	@Subscribe
 	public void onPostMenuSort(final PostMenuSort postMenuSort)
 	{
-		if ((!config.utilitiesFishCheck()) || client.isMenuOpen())
+		if (!active || !hasRawFish || !plugin.getSettings().utilitiesFishCheck() || client.isMenuOpen())
 		{
 			return;
 		}
-		final ItemContainer container = client.getItemContainer(InventoryID.INVENTORY);
-		if (container == null)
+
+		// Remove Quick-pass and Pass, compacting in place
+		final MenuEntry[] menuEntries = client.getMenuEntries();
+		int size = 0;
+
+		for (final MenuEntry menuEntry : menuEntries)
 		{
-			return;
+			if (!isBarrierPass(menuEntry))
+			{
+				menuEntries[size++] = menuEntry;
+			}
 		}
 
-		final boolean hasRawFish = Arrays.stream(container.getItems()).anyMatch(x -> x.getId() == RAW_PADDLEFISH);
-		if (!hasRawFish)
+		if (size != menuEntries.length)
 		{
-			return;
+			client.setMenuEntries(Arrays.copyOf(menuEntries, size));
 		}
-
-		// Remove Quick-pass and Pass
-		final MenuEntry[] filteredEntires = Arrays.stream(client.getMenuEntries())
-			.filter(x -> !x.getOption().equals("Quick-pass") && !x.getOption().equals("Pass"))
-			.toArray(MenuEntry[]::new);
-
-		client.setMenuEntries(filteredEntires);
 	}
 
 	@Subscribe
 	void onWidgetLoaded(final WidgetLoaded event)
 	{
+		if (!active)
+		{
+			return;
+		}
+
 		if (event.getGroupId() == InterfaceID.GAUNTLET_TIMER)
 		{
 			resourceManager.init(client.getMapRegions()[0]);
-			timerOverlay.setGauntletStart();
+			mazeDrawList.markDirty();
+			timerOverlay.setGauntletStart(resourceManager.isCorrupted());
 		}
 	}
 
 	@Subscribe
-	void onGameObjectSpawned(final GameObjectSpawned event)
+	void onGameTick(final GameTick event)
 	{
-		final GameObject gameObject = event.getGameObject();
-
-		final int id = gameObject.getId();
+		if (!active)
+		{
+			return;
+		}
 
-		if (GAME_OBJECT_IDS_RESOURCE.contains(id))
+		if (npcRebuildPending)
 		{
-			resourceGameObjects.add(new ResourceGameObject(gameObject, skillIconManager, config.resourceIconSize()));
+			npcRebuildPending = false;
+			npcOverlayService.rebuild();
 		}
-		else if (GAME_OBJECT_IDS_UTILITY.contains(id))
+
+		if (styleRebuildPending)
 		{
-			utilities.add(gameObject);
+			styleRebuildPending = false;
+			resourceStyleTable.clear();
+			mazeDrawList.markDirty();
 		}
+
+		applyPendingSpawns();
+		mazeDrawList.update();
+		mazeDrawList.updateDistances();
 	}
 
 	@Subscribe
-	void onGameObjectDespawned(final GameObjectDespawned event)
+	void onGameObjectSpawned(final GameObjectSpawned event)
 	{
+		if (!active)
+		{
+			return;
+		}
+
 		final GameObject gameObject = event.getGameObject();
 
-		final int id = gameObject.getId();
+		if (EntityClassifier.getObjectCategory(gameObject.getId()) != Category.NONE)
+		{
+			pendingGameObjects.spawn(gameObject);
+		}
+	}
 
-		if (GAME_OBJECT_IDS_RESOURCE.contains(id))
+	@Subscribe
+	void onGameObjectDespawned(final GameObjectDespawned event)
+	{
+		if (!active)
 		{
-			resourceGameObjects.removeIf(o -> o.getGameObject() == gameObject);
+			return;
 		}
-		else if (GAME_OBJECT_IDS_UTILITY.contains(id))
+
+		final GameObject gameObject = event.getGameObject();
+
+		if (EntityClassifier.getObjectCategory(gameObject.getId()) != Category.NONE)
 		{
-			utilities.remove(gameObject);
+			pendingGameObjects.despawn(gameObject);
 		}
 	}
 
 	@Subscribe
 	void onNpcSpawned(final NpcSpawned event)
 	{
+		if (!active)
+		{
+			return;
+		}
+
 		final NPC npc = event.getNpc();
 
-		if (NPC_IDS_DEMIBOSS.contains(npc.getId()))
+		if (EntityClassifier.getNpcCategory(npc.getId()) == Category.DEMIBOSS)
 		{
-			demiBosses.add(new Demiboss(npc, skillIconManager));
+			pendingNpcs.spawn(npc);
 		}
 	}
 
 	@Subscribe
 	void onNpcDespawned(final NpcDespawned event)
 	{
+		if (!active)
+		{
+			return;
+		}
+
 		final NPC npc = event.getNpc();
 
-		if (NPC_IDS_DEMIBOSS.contains(npc.getId()))
+		if (EntityClassifier.getNpcCategory(npc.getId()) == Category.DEMIBOSS)
 		{
-			demiBosses.removeIf(d -> d.isNpc(npc));
+			pendingNpcs.despawn(npc);
 		}
 	}
 
 	@Subscribe
 	void onActorDeath(final ActorDeath event)
 	{
-		if (event.getActor() == client.getLocalPlayer())
+		if (!active)
 		{
+			return;
+		}
+
+		final Actor actor = event.getActor();
+
+		if (actor == client.getLocalPlayer())
+		{
+			timerOverlay.setResourceCounts(resourceManager.getGathered());
 			timerOverlay.onPlayerDeath();
 		}
+		else if (actor instanceof NPC && EntityClassifier.getNpcCategory(((NPC) actor).getId()) == Category.DEMIBOSS)
+		{
+			timerOverlay.recordDemibossKill();
+		}
 	}
 
 	@Subscribe
 	void onChatMessage(final ChatMessage event)
 	{
+		if (!active)
+		{
+			return;
+		}
+
 		final ChatMessageType type = event.getType();
 
 		if (type == ChatMessageType.SPAM || type == ChatMessageType.GAMEMESSAGE)
 		{
+			final int version = resourceManager.getVersion();
 			resourceManager.parseChatMessage(event.getMessage());
+			onGatheredChanged(version);
+		}
+	}
+
+	@Subscribe
+	void onItemContainerChanged(final ItemContainerChanged event)
+	{
+		if (!active)
+		{
+			return;
+		}
+
+		if (event.getContainerId() == InventoryID.INVENTORY.getId())
+		{
+			hasRawFish = containsRawFish(event.getItemContainer());
+			recordCraftSplits(event.getItemContainer());
+
+			final int version = resourceManager.getVersion();
+			resourceManager.parseInventory(event.getItemContainer());
+			onGatheredChanged(version);
+		}
+	}
+
+	/**
+	 * Marks the draw list dirty if the tracker counted something since {@code version}. Counts only
+	 * affect the draw list when acquired resources are hidden.
+	 */
+	private void onGatheredChanged(final int version)
+	{
+		final TheGauntletSettings settings = plugin.getSettings();
+
+		if (resourceManager.getVersion() != version &&
+			settings.resourceTracker() && settings.resourceRemoveOutlineOnceAcquired())
+		{
+			mazeDrawList.markDirty();
+		}
+	}
+
+	/**
+	 * Rebuilds state for a run already in progress, e.g. after the plugin is enabled mid-maze.
+	 */
+	private void scanScene()
+	{
+		SceneScanner.scanGameObjects(client.getScene(), pendingGameObjects::spawn);
+
+		for (final NPC npc : client.getNpcs())
+		{
+			if (EntityClassifier.getNpcCategory(npc.getId()) == Category.DEMIBOSS)
+			{
+				pendingNpcs.spawn(npc);
+			}
+		}
+
+		applyPendingSpawns();
+
+		// The widget is only loaded once per run, so resume if it is already open.
+		// The elapsed time is not exposed, so the timer restarts from now and the run
+		// is kept out of the personal bests.
+		if (client.getWidget(InterfaceID.GAUNTLET_TIMER, 0) != null)
+		{
+			resourceManager.init(client.getMapRegions()[0]);
+			mazeDrawList.markDirty();
+			timerOverlay.resumeGauntlet(resourceManager.isCorrupted());
+		}
+	}
+
+	void applyPendingSpawns()
+	{
+		pendingGameObjects.drain(gameObjectAdder, gameObjectRemover);
+		pendingNpcs.drain(npcAdder, npcRemover);
+	}
+
+	private void addGameObject(final GameObject gameObject)
+	{
+		switch (EntityClassifier.getObjectCategory(gameObject.getId()))
+		{
+			case RESOURCE:
+				resourceGameObjects.put(gameObject, new ResourceGameObject(gameObject, iconCache));
+				mazeDrawList.markDirty();
+				break;
+			case UTILITY:
+				utilities.put(gameObject, gameObject);
+				break;
+		}
+	}
+
+	private void removeGameObject(final GameObject gameObject)
+	{
+		switch (EntityClassifier.getObjectCategory(gameObject.getId()))
+		{
+			case RESOURCE:
+				if (resourceGameObjects.remove(gameObject) != null)
+				{
+					mazeDrawList.markDirty();
+				}
+				break;
+			case UTILITY:
+				utilities.remove(gameObject);
+				break;
+		}
+	}
+
+	private void addNpc(final NPC npc)
+	{
+		demiBosses.put(npc, new Demiboss(npc, iconCache));
+	}
+
+	private void removeNpc(final NPC npc)
+	{
+		demiBosses.remove(npc);
+	}
+
+	private static boolean containsRawFish(@Nullable final ItemContainer container)
+	{
+		if (container == null)
+		{
+			return false;
+		}
+
+		for (final Item item : container.getItems())
+		{
+			if (item.getId() == ItemID.RAW_PADDLEFISH)
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void recordCraftSplits(final ItemContainer container)
+	{
+		for (final Item item : container.getItems())
+		{
+			final Split split = getCraftSplit(item.getId());
+
+			if (split != null)
+			{
+				timerOverlay.recordSplit(split);
+			}
+		}
+	}
+
+	@Nullable
+	private static Split getCraftSplit(final int itemId)
+	{
+		switch (itemId)
+		{
+			case ItemID.CRYSTAL_HELM_ATTUNED:
+			case ItemID.CRYSTAL_BODY_ATTUNED:
+			case ItemID.CRYSTAL_LEGS_ATTUNED:
+			case ItemID.CRYSTAL_HALBERD_ATTUNED:
+			case ItemID.CRYSTAL_STAFF_ATTUNED:
+			case ItemID.CRYSTAL_BOW_ATTUNED:
+			case ItemID.CORRUPTED_HELM_ATTUNED:
+			case ItemID.CORRUPTED_BODY_ATTUNED:
+			case ItemID.CORRUPTED_LEGS_ATTUNED:
+			case ItemID.CORRUPTED_HALBERD_ATTUNED:
+			case ItemID.CORRUPTED_STAFF_ATTUNED:
+			case ItemID.CORRUPTED_BOW_ATTUNED:
+				return Split.TIER_2;
+			case ItemID.CRYSTAL_HELM_PERFECTED:
+			case ItemID.CRYSTAL_BODY_PERFECTED:
+			case ItemID.CRYSTAL_LEGS_PERFECTED:
+			case ItemID.CRYSTAL_HALBERD_PERFECTED:
+			case ItemID.CRYSTAL_STAFF_PERFECTED:
+			case ItemID.CRYSTAL_BOW_PERFECTED:
+			case ItemID.CORRUPTED_HELM_PERFECTED:
+			case ItemID.CORRUPTED_BODY_PERFECTED:
+			case ItemID.CORRUPTED_LEGS_PERFECTED:
+			case ItemID.CORRUPTED_HALBERD_PERFECTED:
+			case ItemID.CORRUPTED_STAFF_PERFECTED:
+			case ItemID.CORRUPTED_BOW_PERFECTED:
+				return Split.TIER_3;
+			default:
+				return null;
+		}
+	}
+
+	private static boolean isBarrierPass(final MenuEntry menuEntry)
+	{
+		switch (menuEntry.getType())
+		{
+			case GAME_OBJECT_FIRST_OPTION:
+			case GAME_OBJECT_SECOND_OPTION:
+			case GAME_OBJECT_THIRD_OPTION:
+			case GAME_OBJECT_FOURTH_OPTION:
+			case GAME_OBJECT_FIFTH_OPTION:
+				final String option = menuEntry.getOption();
+				return option.equals("Quick-pass") || option.equals("Pass");
+			default:
+				return false;
 		}
 	}
 
 	private HighlightedNpc highlightNpc(final NPC npc)
 	{
+		if (!active)
+		{
+			return null;
+		}
+
 		final int id = npc.getId();
+		final TheGauntletSettings settings = plugin.getSettings();
 
 		final int borderWidth;
 		final Color highlightColor;
@@ -333,9 +692,9 @@ public final class MazeModule implements Module
 				return HighlightedNpc.builder()
 					.npc(npc)
 					.outline(true)
-					.borderWidth(config.weakNpcOutlineWidth())
-					.highlightColor(config.weakNpcOutlineColor())
-					.render(n -> config.weakNpcOutline() && !npc.isDead())
+					.borderWidth(settings.weakNpcOutlineWidth())
+					.highlightColor(settings.weakNpcOutlineColor())
+					.render(n -> plugin.getSettings().weakNpcOutline() && !npc.isDead())
 					.build();
 			case NpcID.CRYSTALLINE_SCORPION:
 			case NpcID.CORRUPTED_SCORPION:
@@ -346,24 +705,24 @@ public final class MazeModule implements Module
 				return HighlightedNpc.builder()
 					.npc(npc)
 					.outline(true)
-					.borderWidth(config.strongNpcOutlineWidth())
-					.highlightColor(config.strongNpcOutlineColor())
-					.render(n -> config.strongNpcOutline() && !npc.isDead())
+					.borderWidth(settings.strongNpcOutlineWidth())
+					.highlightColor(settings.strongNpcOutlineColor())
+					.render(n -> plugin.getSettings().strongNpcOutline() && !npc.isDead())
 					.build();
 			case NpcID.CRYSTALLINE_BEAR:
 			case NpcID.CORRUPTED_BEAR:
-				borderWidth = config.demibossOutlineWidth();
-				highlightColor = config.bearOutlineColor();
+				borderWidth = settings.demibossOutlineWidth();
+				highlightColor = settings.bearOutlineColor();
 				break;
 			case NpcID.CRYSTALLINE_DARK_BEAST:
 			case NpcID.CORRUPTED_DARK_BEAST:
-				borderWidth = config.demibossOutlineWidth();
-				highlightColor = config.darkBeastOutlineColor();
+				borderWidth = settings.demibossOutlineWidth();
+				highlightColor = settings.darkBeastOutlineColor();
 				break;
 			case NpcID.CRYSTALLINE_DRAGON:
 			case NpcID.CORRUPTED_DRAGON:
-				borderWidth = config.demibossOutlineWidth();
-				highlightColor = config.dragonOutlineColor();
+				borderWidth = settings.demibossOutlineWidth();
+				highlightColor = settings.dragonOutlineColor();
 				break;
 			default:
 				return null;
@@ -374,7 +733,7 @@ public final class MazeModule implements Module
 			.outline(true)
 			.borderWidth(borderWidth)
 			.highlightColor(highlightColor)
-			.render(n -> config.demibossOutline() && !npc.isDead())
+			.render(n -> plugin.getSettings().demibossOutline() && !npc.isDead())
 			.build();
 	}
 }
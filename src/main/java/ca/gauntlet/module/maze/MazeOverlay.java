@@ -27,19 +27,19 @@
 
 package ca.gauntlet.module.maze;
 
-import ca.gauntlet.TheGauntletConfig;
 import ca.gauntlet.TheGauntletPlugin;
-import java.awt.BasicStroke;
-import java.awt.Color;
+import ca.gauntlet.TheGauntletSettings;
+import ca.gauntlet.module.TileBatch;
+import ca.gauntlet.module.TilePolygonCache;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.Shape;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
-import net.runelite.api.Perspective;
-import net.runelite.api.coords.LocalPoint;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -51,27 +51,38 @@ import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
 class MazeOverlay extends Overlay
 {
 	private final Client client;
-	private final TheGauntletConfig config;
+	private final TheGauntletPlugin plugin;
 	private final MazeModule mazeModule;
 	private final ModelOutlineRenderer modelOutlineRenderer;
-	private final ResourceManager resourceManager;
+	private final MazeDrawList mazeDrawList;
+	private final TilePolygonCache tilePolygonCache;
+	private final Rectangle viewport = new Rectangle();
+	// Indexed by ResourceStyle tile batch, of which there are at most one per resource
+	private final TileBatch[] tileBatches = new TileBatch[Resource.values().length];
+	private final ResourceStyle[] tileBatchStyles = new ResourceStyle[tileBatches.length];
 
 	@Inject
 	MazeOverlay(
 		final Client client,
 		final TheGauntletPlugin plugin,
-		final TheGauntletConfig config,
 		final MazeModule mazeModule,
 		final ModelOutlineRenderer modelOutlineRenderer,
-		final ResourceManager resourceManager)
+		final MazeDrawList mazeDrawList,
+		final TilePolygonCache tilePolygonCache)
 	{
 		super(plugin);
 
 		this.client = client;
-		this.config = config;
+		this.plugin = plugin;
 		this.mazeModule = mazeModule;
 		this.modelOutlineRenderer = modelOutlineRenderer;
-		this.resourceManager = resourceManager;
+		this.mazeDrawList = mazeDrawList;
+		this.tilePolygonCache = tilePolygonCache;
+
+		for (int i = 0; i < tileBatches.length; i++)
+		{
+			tileBatches[i] = new TileBatch();
+		}
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setPriority(OverlayPriority.HIGH);
@@ -81,140 +92,119 @@ class MazeOverlay extends Overlay
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
-		renderResources(graphics2D);
-		renderUtilities();
+		if (!mazeModule.isActive())
+		{
+			return null;
+		}
+
+		final TheGauntletSettings settings = plugin.getSettings();
+		mazeModule.applyPendingSpawns();
+		renderResources(graphics2D, settings);
+		renderUtilities(settings);
 		return null;
 	}
 
-	private void renderResources(final Graphics2D graphics2D)
+	private void renderResources(final Graphics2D graphics2D, final TheGauntletSettings settings)
 	{
-		if (!config.overlayResources() || mazeModule.getResourceGameObjects().isEmpty())
+		if (!settings.overlayResources())
+		{
+			return;
+		}
+
+		mazeDrawList.update();
+
+		final int size = mazeDrawList.getSceneSize();
+
+		if (size == 0)
 		{
 			return;
 		}
 
-		for (final ResourceGameObject resourceGameObject : mazeModule.getResourceGameObjects())
+		final ResourceGameObject[] resources = mazeDrawList.getSceneResources();
+		final ResourceStyle[] styles = mazeDrawList.getSceneStyles();
+		final int[] distances = mazeDrawList.getSceneDistances();
+
+		tilePolygonCache.update();
+		viewport.setBounds(client.getViewportXOffset(), client.getViewportYOffset(),
+			client.getViewportWidth(), client.getViewportHeight());
+
+		final boolean tileOutline = settings.resourceTileOutlineWidth() > 0;
+
+		for (int i = 0; i < size; i++)
 		{
-			if (!isOverlayEnabled(resourceGameObject.getResource()))
+			final ResourceGameObject resourceGameObject = resources[i];
+			final ResourceStyle style = styles[i];
+			final int distance = distances[i];
+
+			if (style.getHullWidth() > 0 && distance <= settings.resourceHullOutlineDistance())
 			{
-				continue;
+				final GameObject gameObject = resourceGameObject.getGameObject();
+
+				// The model of a tall node can be on screen while its base tile is not, so the outline
+				// is culled on the bounds of its projected hull instead
+				final Shape hull = gameObject.getConvexHull();
+
+				if (hull != null && hull.getBounds().intersects(viewport))
+				{
+					modelOutlineRenderer.drawOutline(gameObject, style.getHullWidth(), style.getOutlineColor(), 1);
+				}
 			}
 
-			if (config.resourceTracker() &&
-				config.resourceRemoveOutlineOnceAcquired() &&
-				resourceManager.hasAcquired(resourceGameObject.getResource()))
+			if (!tileOutline || distance > settings.resourceTileOutlineDistance())
 			{
 				continue;
 			}
 
-			final GameObject gameObject = resourceGameObject.getGameObject();
-
-			final LocalPoint lp = gameObject.getLocalLocation();
+			final Polygon polygon = tilePolygonCache.getTilePoly(resourceGameObject.getLocalLocation());
 
-			if (config.resourceHullOutlineWidth() > 0)
+			// Tiles that are not on screen are skipped before batching
+			if (polygon == null || !polygon.intersects(viewport))
 			{
-				modelOutlineRenderer.drawOutline(gameObject, config.resourceHullOutlineWidth(),
-					getResourceOutlineColor(resourceGameObject.getResource()), 1);
+				continue;
 			}
 
-			if (config.resourceTileOutlineWidth() > 0)
+			final int batch = style.getTileBatch();
+			tileBatches[batch].add(polygon);
+			tileBatchStyles[batch] = style;
+		}
+
+		if (tileOutline)
+		{
+			for (int i = 0; i < tileBatches.length; i++)
 			{
-				final Polygon polygon = Perspective.getCanvasTilePoly(client, lp);
+				final TileBatch tileBatch = tileBatches[i];
 
-				if (polygon != null)
+				if (tileBatch.isEmpty())
 				{
-					OverlayUtil.renderPolygon(graphics2D, polygon, getResourceOutlineColor(resourceGameObject.getResource()),
-						getResourceFillColor(resourceGameObject.getResource()), new BasicStroke(config.resourceTileOutlineWidth()));
+					continue;
 				}
+
+				final ResourceStyle style = tileBatchStyles[i];
+				tileBatch.render(graphics2D, style.getOutlineColor(), style.getFillColor(), style.getTileStroke());
 			}
+		}
 
-			if (config.resourceIconSize() > 0)
+		if (settings.resourceIconSize() > 0)
+		{
+			for (int i = 0; i < size; i++)
 			{
-				OverlayUtil.renderImageLocation(client, graphics2D, lp, resourceGameObject.getIcon(), 0);
+				OverlayUtil.renderImageLocation(client, graphics2D, resources[i].getLocalLocation(),
+					styles[i].getIcon(), 0);
 			}
 		}
 	}
 
-	private void renderUtilities()
+	private void renderUtilities(final TheGauntletSettings settings)
 	{
-		if (!config.utilitiesOutline() || mazeModule.getUtilities().isEmpty())
+		if (!settings.utilitiesOutline() || mazeModule.getUtilities().isEmpty())
 		{
 			return;
 		}
 
 		for (final GameObject gameObject : mazeModule.getUtilities())
 		{
-			modelOutlineRenderer.drawOutline(gameObject, config.utilitiesOutlineWidth(),
-				config.utilitiesOutlineColor(), 1);
-		}
-	}
-
-	private Color getResourceOutlineColor(final Resource resource)
-	{
-		switch (resource)
-		{
-			case RAW_PADDLEFISH:
-				return config.fishingSpotOutlineColor();
-			case CRYSTAL_ORE:
-			case CORRUPTED_ORE:
-				return config.oreDepositOutlineColor();
-			case PHREN_BARK:
-			case CORRUPTED_PHREN_BARK:
-				return config.phrenRootsOutlineColor();
-			case LINUM_TIRINUM:
-			case CORRUPTED_LINUM_TIRINUM:
-				return config.linumTirinumOutlineColor();
-			case GRYM_LEAF:
-			case CORRUPTED_GRYM_LEAF:
-				return config.grymRootOutlineColor();
-			default:
-				throw new IllegalArgumentException("Unsupported resource: " + resource);
-		}
-	}
-
-	private Color getResourceFillColor(final Resource resource)
-	{
-		switch (resource)
-		{
-			case RAW_PADDLEFISH:
-				return config.fishingSpotFillColor();
-			case CRYSTAL_ORE:
-			case CORRUPTED_ORE:
-				return config.oreDepositFillColor();
-			case PHREN_BARK:
-			case CORRUPTED_PHREN_BARK:
-				return config.phrenRootsFillColor();
-			case LINUM_TIRINUM:
-			case CORRUPTED_LINUM_TIRINUM:
-				return config.linumTirinumFillColor();
-			case GRYM_LEAF:
-			case CORRUPTED_GRYM_LEAF:
-				return config.grymRootFillColor();
-			default:
-				throw new IllegalArgumentException("Unsupported resource: " + resource);
-		}
-	}
-
-	private boolean isOverlayEnabled(final Resource resource)
-	{
-		switch (resource)
-		{
-			case RAW_PADDLEFISH:
-				return config.overlayFishingSpot();
-			case CRYSTAL_ORE:
-			case CORRUPTED_ORE:
-				return config.overlayOreDeposit();
-			case PHREN_BARK:
-			case CORRUPTED_PHREN_BARK:
-				return config.overlayPhrenRoots();
-			case LINUM_TIRINUM:
-			case CORRUPTED_LINUM_TIRINUM:
-				return config.overlayLinumTirinum();
-			case GRYM_LEAF:
-			case CORRUPTED_GRYM_LEAF:
-				return config.overlayGrymRoot();
-			default:
-				throw new IllegalArgumentException("Unsupported resource: " + resource);
+			modelOutlineRenderer.drawOutline(gameObject, settings.utilitiesOutlineWidth(),
+				settings.utilitiesOutlineColor(), 1);
 		}
 	}
 }
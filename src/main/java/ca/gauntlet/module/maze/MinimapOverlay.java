@@ -27,39 +27,40 @@
 
 package ca.gauntlet.module.maze;
 
-import ca.gauntlet.TheGauntletConfig;
 import ca.gauntlet.TheGauntletPlugin;
+import ca.gauntlet.TheGauntletSettings;
+import ca.gauntlet.module.EntityRegistry;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.util.Collection;
+import java.awt.image.BufferedImage;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import net.runelite.api.NPC;
 import net.runelite.api.Point;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayPriority;
-import net.runelite.client.ui.overlay.OverlayUtil;
 
 @Singleton
 class MinimapOverlay extends Overlay
 {
-	private final TheGauntletConfig config;
+	private final TheGauntletPlugin plugin;
 	private final MazeModule mazeModule;
-	private final ResourceManager resourceManager;
+	private final MazeDrawList mazeDrawList;
 
 	@Inject
 	MinimapOverlay(
 		final TheGauntletPlugin plugin,
-		final TheGauntletConfig config,
 		final MazeModule mazeModule,
-		final ResourceManager resourceManager)
+		final MazeDrawList mazeDrawList)
 	{
 		super(plugin);
 
-		this.config = config;
+		this.plugin = plugin;
 		this.mazeModule = mazeModule;
-		this.resourceManager = resourceManager;
+		this.mazeDrawList = mazeDrawList;
 
 		setPosition(OverlayPosition.DYNAMIC);
 		setPriority(OverlayPriority.HIGH);
@@ -69,12 +70,19 @@ class MinimapOverlay extends Overlay
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
-		if (config.minimapResourceOverlay())
+		if (!mazeModule.isActive())
 		{
-			renderMinimapResourceIcons(graphics2D, mazeModule.getResourceGameObjects());
+			return null;
 		}
 
-		if (config.minimapDemibossOverlay())
+		final TheGauntletSettings settings = plugin.getSettings();
+
+		if (settings.minimapResourceOverlay())
+		{
+			renderMinimapResourceIcons(graphics2D);
+		}
+
+		if (settings.minimapDemibossOverlay())
 		{
 			renderMinimapNPCIcons(graphics2D, mazeModule.getDemiBosses());
 		}
@@ -82,7 +90,7 @@ class MinimapOverlay extends Overlay
 		return null;
 	}
 
-	private void renderMinimapNPCIcons(final Graphics2D graphics2D, final Collection<Demiboss> demiBosses)
+	private void renderMinimapNPCIcons(final Graphics2D graphics2D, final EntityRegistry<NPC, Demiboss> demiBosses)
 	{
 		if (demiBosses.isEmpty())
 		{
@@ -91,41 +99,33 @@ class MinimapOverlay extends Overlay
 
 		for (final Demiboss demiboss : demiBosses)
 		{
-			final Point point = demiboss.getMinimapPoint();
+			renderMinimapIcon(graphics2D, demiboss.getNpc().getMinimapLocation(), demiboss.getMinimapIcon());
+		}
+	}
+
+	private void renderMinimapResourceIcons(final Graphics2D graphics2D)
+	{
+		mazeDrawList.update();
 
-			if (point == null)
-			{
-				continue;
-			}
+		final int size = mazeDrawList.getMinimapSize();
+		final ResourceGameObject[] resources = mazeDrawList.getMinimapResources();
 
-			OverlayUtil.renderImageLocation(graphics2D, point, demiboss.getMinimapIcon());
+		for (int i = 0; i < size; i++)
+		{
+			final ResourceGameObject resourceGameObject = resources[i];
+
+			renderMinimapIcon(graphics2D, resourceGameObject.getGameObject().getMinimapLocation(),
+				resourceGameObject.getMinimapIcon());
 		}
 	}
 
-	private void renderMinimapResourceIcons(final Graphics2D graphics2D, final Collection<ResourceGameObject> resourceGameObjects)
+	private static void renderMinimapIcon(final Graphics2D graphics2D, @Nullable final Point point, final BufferedImage icon)
 	{
-		if (resourceGameObjects.isEmpty())
+		if (point == null)
 		{
 			return;
 		}
 
-		for (final ResourceGameObject resourceGameObject : resourceGameObjects)
-		{
-			if (config.resourceTracker() &&
-				config.resourceRemoveOutlineOnceAcquired() &&
-				resourceManager.hasAcquired(resourceGameObject.getResource()))
-			{
-				continue;
-			}
-
-			final Point point = resourceGameObject.getMinimapPoint();
-
-			if (point == null)
-			{
-				continue;
-			}
-
-			OverlayUtil.renderImageLocation(graphics2D, point, resourceGameObject.getMinimapIcon());
-		}
+		graphics2D.drawImage(icon, point.getX() - icon.getWidth() / 2, point.getY() - icon.getHeight() / 2, null);
 	}
 }
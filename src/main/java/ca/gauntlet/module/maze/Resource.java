@@ -28,9 +28,7 @@
 
 package ca.gauntlet.module.maze;
 
-import java.util.AbstractMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.Getter;
 import net.runelite.api.ItemID;
@@ -52,37 +50,62 @@ public enum Resource
 	CRYSTAL_ORB("Crystal orb", ItemID.CRYSTAL_ORB, false),
 	CORRUPTED_ORB("Corrupted orb", ItemID.CORRUPTED_ORB, true),
 
-	RAW_PADDLEFISH("Raw paddlefish", ItemID.RAW_PADDLEFISH, "You manage to catch a fish\\.", false),
+	RAW_PADDLEFISH("Raw paddlefish", ItemID.RAW_PADDLEFISH, "You manage to catch a fish.", false),
 
-	CRYSTAL_SHARDS("Crystal shards", ItemID.CRYSTAL_SHARDS, "You find (\\d+) crystal shards\\.", false),
-	CORRUPTED_SHARDS("Corrupted shards", ItemID.CORRUPTED_SHARDS, "You find (\\d+) corrupted shards\\.", true),
+	CRYSTAL_SHARDS("Crystal shards", ItemID.CRYSTAL_SHARDS, "You find %d crystal shards.", false),
+	CORRUPTED_SHARDS("Corrupted shards", ItemID.CORRUPTED_SHARDS, "You find %d corrupted shards.", true),
 
-	CRYSTAL_ORE("Crystal ore", ItemID.CRYSTAL_ORE, "You manage to mine some ore\\.", false),
-	CORRUPTED_ORE("Corrupted ore", ItemID.CORRUPTED_ORE, "You manage to mine some ore\\.", true),
+	CRYSTAL_ORE("Crystal ore", ItemID.CRYSTAL_ORE, "You manage to mine some ore.", false),
+	CORRUPTED_ORE("Corrupted ore", ItemID.CORRUPTED_ORE, "You manage to mine some ore.", true),
 
-	PHREN_BARK("Phren bark", ItemID.PHREN_BARK_23878, "You get some bark\\.", false),
-	CORRUPTED_PHREN_BARK("Phren bark", ItemID.PHREN_BARK, "You get some bark\\.", true),
+	PHREN_BARK("Phren bark", ItemID.PHREN_BARK_23878, "You get some bark.", false),
+	CORRUPTED_PHREN_BARK("Phren bark", ItemID.PHREN_BARK, "You get some bark.", true),
 
-	LINUM_TIRINUM("Linum tirinum", ItemID.LINUM_TIRINUM_23876, "You pick some fibre from the plant\\.", false),
-	CORRUPTED_LINUM_TIRINUM("Linum tirinum", ItemID.LINUM_TIRINUM, "You pick some fibre from the plant\\.", true),
+	LINUM_TIRINUM("Linum tirinum", ItemID.LINUM_TIRINUM_23876, "You pick some fibre from the plant.", false),
+	CORRUPTED_LINUM_TIRINUM("Linum tirinum", ItemID.LINUM_TIRINUM, "You pick some fibre from the plant.", true),
 
-	GRYM_LEAF("Grym leaf", ItemID.GRYM_LEAF_23875, "You pick a herb from the roots\\.", false),
-	CORRUPTED_GRYM_LEAF("Grym leaf", ItemID.GRYM_LEAF, "You pick a herb from the roots\\.", true);
+	GRYM_LEAF("Grym leaf", ItemID.GRYM_LEAF_23875, "You pick a herb from the roots.", false),
+	CORRUPTED_GRYM_LEAF("Grym leaf", ItemID.GRYM_LEAF, "You pick a herb from the roots.", true);
 
-	private static final Resource[] VALUES = Resource.values();
+	// Dense item id lookup offset by the lowest resource item id
+	private static final int MIN_ITEM_ID;
+	private static final Resource[] BY_ITEM_ID;
+
+	static
+	{
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+
+		for (final Resource resource : values())
+		{
+			min = Math.min(min, resource.itemId);
+			max = Math.max(max, resource.itemId);
+		}
+
+		MIN_ITEM_ID = min;
+		BY_ITEM_ID = new Resource[max - min + 1];
+
+		for (final Resource resource : values())
+		{
+			BY_ITEM_ID[resource.itemId - min] = resource;
+		}
+	}
 
 	private final String name;
 	@Getter(AccessLevel.PACKAGE)
 	private final int itemId;
-	private final Pattern pattern;
+	// Skill message, with %d standing in for the quantity gathered
+	@Getter(AccessLevel.PACKAGE)
+	private final String message;
+	@Getter(AccessLevel.PACKAGE)
 	private final boolean corrupted;
 
-	Resource(final String name, final int itemId, final String pattern, final boolean corrupted)
+	Resource(final String name, final int itemId, final String message, final boolean corrupted)
 	{
 		this.name = name;
 		this.itemId = itemId;
+		this.message = message;
 		this.corrupted = corrupted;
-		this.pattern = pattern != null ? Pattern.compile(pattern) : null;
 	}
 
 	Resource(final String name, final int itemId, final boolean corrupted)
@@ -90,43 +113,11 @@ public enum Resource
 		this(name, itemId, null, corrupted);
 	}
 
-	static Resource fromName(final String name, final boolean corrupted)
+	@Nullable
+	static Resource fromItemId(final int itemId)
 	{
-		for (final Resource resource : VALUES)
-		{
-			if ((resource.corrupted == corrupted || resource == RAW_PADDLEFISH) &&
-				resource.name.equals(name))
-			{
-				return resource;
-			}
-		}
-
-		return null;
-	}
-
-	static AbstractMap.Entry<Resource, Integer> fromPattern(final String pattern, final boolean corrupted)
-	{
-		for (final Resource resource : VALUES)
-		{
-			if (resource.pattern == null ||
-				(corrupted != resource.corrupted && resource != Resource.RAW_PADDLEFISH))
-			{
-				continue;
-			}
-
-			final Matcher matcher = resource.pattern.matcher(pattern);
-
-			if (!matcher.matches())
-			{
-				continue;
-			}
-
-			final int itemCount = matcher.groupCount() == 1 ? Integer.parseInt(matcher.group(1)) : 1;
-
-			return new AbstractMap.SimpleImmutableEntry<>(resource, itemCount);
-		}
-
-		return null;
+		final int index = itemId - MIN_ITEM_ID;
+		return index >= 0 && index < BY_ITEM_ID.length ? BY_ITEM_ID[index] : null;
 	}
 
 	@Override
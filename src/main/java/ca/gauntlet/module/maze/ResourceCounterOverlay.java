@@ -0,0 +1,228 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.module.maze;
+
+import ca.gauntlet.TheGauntletConfig.TrackerDisplay;
+import ca.gauntlet.TheGauntletPlugin;
+import ca.gauntlet.TheGauntletSettings;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.ui.FontManager;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.OverlayPriority;
+import net.runelite.client.ui.overlay.components.ComponentConstants;
+import net.runelite.client.util.AsyncBufferedImage;
+
+/**
+ * Draws all tracked resource counters in a single panel, as an alternative to one InfoBox per resource.
+ * <p>
+ * The panel is composited into an image that is only redrawn when a tracked value or the settings change,
+ * so steady state rendering is a single image draw.
+ */
+@Singleton
+class ResourceCounterOverlay extends Overlay
+{
+	private static final int ICON_SIZE = 24;
+	private static final int PADDING = 4;
+	private static final int GAP = 2;
+	private static final Resource[] RESOURCES = Resource.values();
+
+	private final TheGauntletPlugin plugin;
+	private final MazeModule mazeModule;
+	private final ResourceManager resourceManager;
+	private final ItemManager itemManager;
+
+	private final BufferedImage[] icons = new BufferedImage[RESOURCES.length];
+	private final String[] texts = new String[RESOURCES.length];
+	private final int[] textCounts = new int[RESOURCES.length];
+	private final Dimension dimension = new Dimension();
+
+	private BufferedImage panel;
+	private TheGauntletSettings renderedSettings;
+	private int renderedVersion;
+	// Set when an item image finishes loading after the panel was drawn
+	private volatile boolean dirty = true;
+
+	@Inject
+	ResourceCounterOverlay(
+		final TheGauntletPlugin plugin,
+		final MazeModule mazeModule,
+		final ResourceManager resourceManager,
+		final ItemManager itemManager)
+	{
+		super(plugin);
+
+		this.plugin = plugin;
+		this.mazeModule = mazeModule;
+		this.resourceManager = resourceManager;
+		this.itemManager = itemManager;
+
+		Arrays.fill(textCounts, -1);
+
+		setPosition(OverlayPosition.TOP_LEFT);
+		setPriority(OverlayPriority.LOW);
+	}
+
+	@Override
+	public Dimension render(final Graphics2D graphics2D)
+	{
+		if (!mazeModule.isActive())
+		{
+			return null;
+		}
+
+		final TheGauntletSettings settings = plugin.getSettings();
+
+		if (!settings.resourceTracker() || settings.resourceTrackerDisplay() != TrackerDisplay.PANEL)
+		{
+			return null;
+		}
+
+		final int version = resourceManager.getVersion();
+
+		if (dirty || version != renderedVersion || settings != renderedSettings)
+		{
+			dirty = false;
+			renderedVersion = version;
+			renderedSettings = settings;
+			redraw(graphics2D.getFontMetrics(FontManager.getRunescapeSmallFont()));
+		}
+
+		if (panel == null)
+		{
+			return null;
+		}
+
+		graphics2D.drawImage(panel, 0, 0, null);
+
+		return dimension;
+	}
+
+	private void redraw(final FontMetrics fontMetrics)
+	{
+		int rows = 0;
+		int textWidth = 0;
+
+		for (final Resource resource : RESOURCES)
+		{
+			if (!resourceManager.isCounted(resource))
+			{
+				continue;
+			}
+
+			final int index = resource.ordinal();
+			final int count = resourceManager.getDisplayCount(resource);
+
+			if (count != textCounts[index])
+			{
+				textCounts[index] = count;
+				texts[index] = String.valueOf(count);
+			}
+
+			textWidth = Math.max(textWidth, fontMetrics.stringWidth(texts[index]));
+			rows++;
+		}
+
+		if (rows == 0)
+		{
+			panel = null;
+			return;
+		}
+
+		final int width = PADDING * 2 + ICON_SIZE + GAP + textWidth;
+		final int height = PADDING * 2 + rows * ICON_SIZE + (rows - 1) * GAP;
+
+		if (panel == null || panel.getWidth() != width || panel.getHeight() != height)
+		{
+			panel = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			dimension.setSize(width, height);
+		}
+
+		final Graphics2D graphics = panel.createGraphics();
+
+		// Replace rather than blend over the previous contents
+		graphics.setComposite(AlphaComposite.Src);
+		graphics.setColor(ComponentConstants.STANDARD_BACKGROUND_COLOR);
+		graphics.fillRect(0, 0, width, height);
+		graphics.setComposite(AlphaComposite.SrcOver);
+
+		final Font font = fontMetrics.getFont();
+		graphics.setFont(font);
+
+		final int textX = PADDING + ICON_SIZE + GAP;
+		final int textOffset = (ICON_SIZE + fontMetrics.getAscent() - fontMetrics.getDescent()) / 2;
+
+		int y = PADDING;
+
+		for (final Resource resource : RESOURCES)
+		{
+			if (!resourceManager.isCounted(resource))
+			{
+				continue;
+			}
+
+			final String text = texts[resource.ordinal()];
+
+			graphics.drawImage(getIcon(resource), PADDING, y, ICON_SIZE, ICON_SIZE, null);
+
+			graphics.setColor(Color.BLACK);
+			graphics.drawString(text, textX + 1, y + textOffset + 1);
+			graphics.setColor(resourceManager.hasAcquired(resource) ? Color.GRAY : Color.WHITE);
+			graphics.drawString(text, textX, y + textOffset);
+
+			y += ICON_SIZE + GAP;
+		}
+
+		graphics.dispose();
+	}
+
+	private BufferedImage getIcon(final Resource resource)
+	{
+		BufferedImage icon = icons[resource.ordinal()];
+
+		if (icon == null)
+		{
+			final AsyncBufferedImage image = itemManager.getImage(resource.getItemId());
+			image.onLoaded(() -> dirty = true);
+			icon = image;
+			icons[resource.ordinal()] = icon;
+		}
+
+		return icon;
+	}
+}
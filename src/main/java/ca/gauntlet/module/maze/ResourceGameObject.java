@@ -28,127 +28,44 @@
 
 package ca.gauntlet.module.maze;
 
+import ca.gauntlet.module.EntityClassifier;
 import java.awt.image.BufferedImage;
-import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import net.runelite.api.GameObject;
-import net.runelite.api.ObjectID;
-import net.runelite.api.Point;
-import net.runelite.api.Skill;
-import net.runelite.client.game.SkillIconManager;
-import net.runelite.client.util.ImageUtil;
+import net.runelite.api.coords.LocalPoint;
 
 class ResourceGameObject
 {
-	private static final int DEFAULT_ICON_SIZE = 14;
-
 	@Getter(AccessLevel.PACKAGE)
 	private final Resource resource;
 	@Getter(AccessLevel.PACKAGE)
 	private final GameObject gameObject;
-	private final BufferedImage originalIcon;
+	@Getter(AccessLevel.PACKAGE)
+	private final LocalPoint localLocation;
 	@Getter(AccessLevel.PACKAGE)
 	private final BufferedImage minimapIcon;
-	private BufferedImage icon;
-	private int iconSize;
 
-	ResourceGameObject(
-		@NonNull final GameObject gameObject,
-		@NonNull final SkillIconManager skillIconManager,
-		final int iconSize)
+	ResourceGameObject(@NonNull final GameObject gameObject, @NonNull final IconCache iconCache)
 	{
 		this.gameObject = gameObject;
-		this.iconSize = iconSize;
 		this.resource = getResourceByObjectId(gameObject.getId());
+		this.localLocation = gameObject.getLocalLocation();
 
-		originalIcon = getOriginalIcon(resource, skillIconManager, false);
-		minimapIcon = getOriginalIcon(resource, skillIconManager, true);
-	}
-
-	void setIconSize(final int iconSize)
-	{
-		this.iconSize = iconSize;
-		final int size = iconSize <= 0 ? DEFAULT_ICON_SIZE : iconSize;
-		icon = ImageUtil.resizeImage(originalIcon, size, size);
-	}
-
-	BufferedImage getIcon()
-	{
-		if (icon == null)
-		{
-			final int size = iconSize <= 0 ? DEFAULT_ICON_SIZE : iconSize;
-			icon = ImageUtil.resizeImage(originalIcon, size, size);
-		}
-
-		return icon;
+		minimapIcon = iconCache.getMinimapIcon(resource);
 	}
 
-	@Nullable
-	Point getMinimapPoint()
+	private static Resource getResourceByObjectId(final int objectId)
 	{
-		final Point point = gameObject.getMinimapLocation();
+		final Resource resource = EntityClassifier.getResource(objectId);
 
-		if (point == null)
+		if (resource == null)
 		{
-			return null;
+			throw new IllegalArgumentException("Unsupported game object id: " + objectId);
 		}
 
-		return new Point(point.getX() - minimapIcon.getHeight() / 2, point.getY() - minimapIcon.getWidth() / 2);
-	}
-
-	private static BufferedImage getOriginalIcon(final Resource resource,
-												 final SkillIconManager skillIconManager,
-												 final boolean small)
-	{
-		switch (resource)
-		{
-			case RAW_PADDLEFISH:
-				return skillIconManager.getSkillImage(Skill.FISHING, small);
-			case CRYSTAL_ORE:
-			case CORRUPTED_ORE:
-				return skillIconManager.getSkillImage(Skill.MINING, small);
-			case PHREN_BARK:
-			case CORRUPTED_PHREN_BARK:
-				return skillIconManager.getSkillImage(Skill.WOODCUTTING, small);
-			case LINUM_TIRINUM:
-			case CORRUPTED_LINUM_TIRINUM:
-				return skillIconManager.getSkillImage(Skill.FARMING, small);
-			case GRYM_LEAF:
-			case CORRUPTED_GRYM_LEAF:
-				return skillIconManager.getSkillImage(Skill.HERBLORE, small);
-			default:
-				throw new IllegalArgumentException("Unsupported resource: " + resource);
-		}
-	}
-
-	private static Resource getResourceByObjectId(final int objectId)
-	{
-		switch (objectId)
-		{
-			case ObjectID.CRYSTAL_DEPOSIT:
-				return Resource.CRYSTAL_ORE;
-			case ObjectID.CORRUPT_DEPOSIT:
-				return Resource.CORRUPTED_ORE;
-			case ObjectID.PHREN_ROOTS:
-				return Resource.PHREN_BARK;
-			case ObjectID.CORRUPT_PHREN_ROOTS:
-				return Resource.CORRUPTED_PHREN_BARK;
-			case ObjectID.LINUM_TIRINUM:
-				return Resource.LINUM_TIRINUM;
-			case ObjectID.CORRUPT_LINUM_TIRINUM:
-				return Resource.CORRUPTED_LINUM_TIRINUM;
-			case ObjectID.GRYM_ROOT:
-				return Resource.GRYM_LEAF;
-			case ObjectID.CORRUPT_GRYM_ROOT:
-				return Resource.CORRUPTED_GRYM_LEAF;
-			case ObjectID.CORRUPT_FISHING_SPOT:
-			case ObjectID.FISHING_SPOT_36068:
-				return Resource.RAW_PADDLEFISH;
-			default:
-				throw new IllegalArgumentException("Unsupported game object id: " + objectId);
-		}
+		return resource;
 	}
 
 	@Override
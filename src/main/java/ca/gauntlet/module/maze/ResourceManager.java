@@ -28,36 +28,56 @@
 
 package ca.gauntlet.module.maze;
 
-import ca.gauntlet.TheGauntletConfig;
+import ca.gauntlet.TheGauntletConfig.TrackerDisplay;
 import ca.gauntlet.TheGauntletConfig.TrackingMode;
+import ca.gauntlet.TheGauntletConfig.TrackingSource;
 import ca.gauntlet.TheGauntletPlugin;
+import ca.gauntlet.TheGauntletSettings;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
-import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.EnumMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.InventoryID;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.overlay.infobox.InfoBox;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
 import net.runelite.client.ui.overlay.infobox.InfoBoxPriority;
-import net.runelite.client.util.Text;
 
 @Slf4j
 @Singleton
 class ResourceManager
 {
-	private static final Pattern PATTERN_RESOURCE_DROP = Pattern.compile("^.+ drop:\\s+((?<quantity>\\d+) x )?(?<name>.+)$");
 	private static final int SHARD_COUNT_BREAK_DOWN = 80;
+	private static final Resource[] RESOURCES = Resource.values();
 	private final EnumMap<Resource, ResourceCounter> counterByResource = new EnumMap<>(Resource.class);
+	// Counters are reused across runs and only released when the plugin shuts down
+	private final EnumMap<Resource, ResourceCounter> counterPool = new EnumMap<>(Resource.class);
+
+	// Raw totals gathered this run and configured targets, by resource ordinal.
+	// Counters are views over these and are re-projected whenever the settings change.
+	private final int[] gathered = new int[RESOURCES.length];
+	private final int[] targets = new int[RESOURCES.length];
+	// Bumped whenever a tracked value changes, for views that cache their rendering
+	@Getter(AccessLevel.PACKAGE)
+	private int version;
+
+	// Inventory quantities by resource ordinal, swapped on each diff
+	private int[] inventoryQuantities = new int[RESOURCES.length];
+	private int[] scratchQuantities = new int[RESOURCES.length];
 
 	@Inject
-	private TheGauntletPlugin plugin;
+	private Client client;
 	@Inject
-	private TheGauntletConfig config;
+	private TheGauntletPlugin plugin;
 	@Inject
 	private ItemManager itemManager;
 	@Inject
@@ -67,24 +87,72 @@ class ResourceManager
 
 	void init(final int regionId)
 	{
-		region = Region.fromId(regionId);
+		final Region region = Region.fromId(regionId);
 
-		if (region != Region.UNKNOWN && config.resourceTracker())
+		if (region != this.region)
 		{
-			createResourceCountersFromConfig();
+			reset();
+			this.region = region;
+
+			// Baseline so items carried before tracking started are not counted as gathered
+			countInventory(client.getItemContainer(InventoryID.INVENTORY), inventoryQuantities);
 		}
+
+		reconfigure();
 	}
 
 	void reset()
 	{
 		region = Region.UNKNOWN;
+		Arrays.fill(gathered, 0);
+		Arrays.fill(targets, 0);
+		Arrays.fill(inventoryQuantities, 0);
 		counterByResource.clear();
 		infoBoxManager.removeIf(ResourceCounter.class::isInstance);
+		version++;
+	}
+
+	/**
+	 * Re-reads targets and display options from the settings without losing gathered totals.
+	 */
+	void reconfigure()
+	{
+		Arrays.fill(targets, 0);
+
+		if (region != Region.UNKNOWN && plugin.getSettings().resourceTracker())
+		{
+			setTargetsFromConfig();
+		}
+
+		for (final Resource resource : RESOURCES)
+		{
+			updateResourceCounter(resource);
+		}
+
+		version++;
+	}
+
+	/**
+	 * Requests every counter image up front; safe to call off the client thread.
+	 */
+	void prewarm()
+	{
+		for (final Resource resource : RESOURCES)
+		{
+			itemManager.getImage(resource.getItemId());
+		}
+	}
+
+	void clearPool()
+	{
+		counterPool.clear();
 	}
 
 	void parseChatMessage(final String chatMessage)
 	{
-		if (!config.resourceTracker() || region == Region.UNKNOWN)
+		final TheGauntletSettings settings = plugin.getSettings();
+
+		if (settings.resourceTrackingSource() != TrackingSource.CHAT || region == Region.UNKNOWN)
 		{
 			return;
 		}
@@ -102,42 +170,87 @@ class ResourceManager
 		}
 	}
 
-	boolean hasAcquired(final Resource resource)
+	void parseInventory(final ItemContainer inventory)
 	{
-		final ResourceCounter resourceCounter = counterByResource.get(resource);
-		return resourceCounter == null ? config.resourceRemoveAcquired() : resourceCounter.hasAcquiredTarget();
-	}
+		if (region == Region.UNKNOWN)
+		{
+			return;
+		}
 
-	private void parseNpcChatMessage(final String message)
-	{
-		final String noTagsMessage = Text.removeTags(message);
+		final int[] previous = inventoryQuantities;
+		final int[] current = countInventory(inventory, scratchQuantities);
 
-		final Matcher matcher = PATTERN_RESOURCE_DROP.matcher(noTagsMessage);
+		inventoryQuantities = current;
+		scratchQuantities = previous;
 
-		if (!matcher.matches())
+		// The baseline is kept current regardless, so switching source mid-run does not count the whole inventory
+		if (plugin.getSettings().resourceTrackingSource() != TrackingSource.INVENTORY)
 		{
 			return;
 		}
 
-		final String name = matcher.group("name");
-
-		if (name == null)
+		for (int i = 0; i < current.length; i++)
 		{
-			return;
+			final int delta = current[i] - previous[i];
+
+			// Only gains count, items used up or dropped leave the counters alone
+			if (delta > 0)
+			{
+				addGathered(RESOURCES[i], delta);
+			}
 		}
+	}
+
+	boolean isCorrupted()
+	{
+		return region == Region.CORRUPTED;
+	}
+
+	/**
+	 * @return gathered totals for the run, indexed by resource ordinal; not to be modified
+	 */
+	int[] getGathered()
+	{
+		return gathered;
+	}
+
+	/**
+	 * Whether a counter should currently be shown for the resource, in either display.
+	 */
+	boolean isCounted(final Resource resource)
+	{
+		final int target = targets[resource.ordinal()];
+		return target > 0 && !(plugin.getSettings().resourceRemoveAcquired() && gathered[resource.ordinal()] >= target);
+	}
 
-		final Resource resource = Resource.fromName(name, region == Region.CORRUPTED);
+	int getDisplayCount(final Resource resource)
+	{
+		final int count = gathered[resource.ordinal()];
 
-		if (resource == null)
+		if (plugin.getSettings().resourceTrackingMode() == TrackingMode.DECREMENT)
 		{
-			return;
+			return Math.max(0, targets[resource.ordinal()] - count);
 		}
 
-		final String quantity = matcher.group("quantity");
+		return count;
+	}
+
+	boolean hasAcquired(final Resource resource)
+	{
+		final int target = targets[resource.ordinal()];
+		return target == 0 ? plugin.getSettings().resourceRemoveAcquired() : gathered[resource.ordinal()] >= target;
+	}
 
-		final int count = quantity != null ? Integer.parseInt(quantity) : 1;
+	private void parseNpcChatMessage(final String message)
+	{
+		final int match = ChatMatcher.matchDropMessage(message, region == Region.CORRUPTED);
 
-		updateResourceCounter(resource, count);
+		if (match == ChatMatcher.NO_MATCH)
+		{
+			return;
+		}
+
+		addGathered(ChatMatcher.getResource(match), ChatMatcher.getQuantity(match));
 	}
 
 	private void parseSkillChatMessage(final String message)
@@ -147,72 +260,99 @@ class ResourceManager
 			final Resource resource = region == Region.CORRUPTED ?
 				Resource.CORRUPTED_SHARDS : Resource.CRYSTAL_SHARDS;
 
-			updateResourceCounter(resource, SHARD_COUNT_BREAK_DOWN);
+			addGathered(resource, SHARD_COUNT_BREAK_DOWN);
 			return;
 		}
 
-		final AbstractMap.Entry<Resource, Integer> mapping = Resource.fromPattern(message, region == Region.CORRUPTED);
+		final int match = ChatMatcher.matchSkillMessage(message, region == Region.CORRUPTED);
 
-		if (mapping == null)
+		if (match == ChatMatcher.NO_MATCH)
 		{
 			return;
 		}
 
-		updateResourceCounter(mapping.getKey(), mapping.getValue());
+		addGathered(ChatMatcher.getResource(match), ChatMatcher.getQuantity(match));
 	}
 
-	private void updateResourceCounter(final Resource resource, final int count)
+	private void addGathered(final Resource resource, final int count)
 	{
-		final ResourceCounter resourceCounter = counterByResource.get(resource);
+		gathered[resource.ordinal()] += count;
+		updateResourceCounter(resource);
+		version++;
+	}
 
-		if (resourceCounter == null)
+	private void updateResourceCounter(final Resource resource)
+	{
+		ResourceCounter resourceCounter = counterByResource.get(resource);
+
+		if (!isCounted(resource) || plugin.getSettings().resourceTrackerDisplay() != TrackerDisplay.INFOBOX)
 		{
+			if (resourceCounter != null)
+			{
+				counterByResource.remove(resource);
+				infoBoxManager.removeInfoBox(resourceCounter);
+			}
 			return;
 		}
 
-		resourceCounter.updateCount(count);
-
-		if (config.resourceRemoveAcquired() && resourceCounter.hasAcquiredTarget())
+		if (resourceCounter == null)
 		{
-			counterByResource.remove(resource);
-			infoBoxManager.removeInfoBox(resourceCounter);
+			resourceCounter = counterPool.get(resource);
+
+			if (resourceCounter == null)
+			{
+				resourceCounter = new ResourceCounter(itemManager.getImage(resource.getItemId()), plugin, resource);
+				counterPool.put(resource, resourceCounter);
+			}
+
+			counterByResource.put(resource, resourceCounter);
+			infoBoxManager.addInfoBox(resourceCounter);
 		}
+
+		resourceCounter.update(getDisplayCount(resource), hasAcquired(resource));
 	}
 
-	private void createResourceCounter(final Resource resource, final int count)
+	private static int[] countInventory(@Nullable final ItemContainer inventory, final int[] quantities)
 	{
-		if (count <= 0)
+		Arrays.fill(quantities, 0);
+
+		if (inventory == null)
 		{
-			return;
+			return quantities;
 		}
 
-		final boolean decrement = config.resourceTrackingMode() == TrackingMode.DECREMENT;
+		for (final Item item : inventory.getItems())
+		{
+			final Resource resource = Resource.fromItemId(item.getId());
 
-		final ResourceCounter resourceCounter = new ResourceCounter(
-			itemManager.getImage(resource.getItemId()),
-			plugin,
-			resource,
-			decrement ? count : 0,
-			decrement ? 0 : count
-		);
+			if (resource != null)
+			{
+				quantities[resource.ordinal()] += item.getQuantity();
+			}
+		}
 
-		counterByResource.put(resource, resourceCounter);
-		infoBoxManager.addInfoBox(resourceCounter);
+		return quantities;
 	}
 
-	private void createResourceCountersFromConfig()
+	private void setTargetsFromConfig()
 	{
+		final TheGauntletSettings settings = plugin.getSettings();
 		final boolean corrupted = region == Region.CORRUPTED;
-		createResourceCounter(corrupted ? Resource.CORRUPTED_ORE : Resource.CRYSTAL_ORE, config.resourceOre());
-		createResourceCounter(corrupted ? Resource.CORRUPTED_PHREN_BARK : Resource.PHREN_BARK, config.resourceBark());
-		createResourceCounter(corrupted ? Resource.CORRUPTED_LINUM_TIRINUM : Resource.LINUM_TIRINUM, config.resourceTirinum());
-		createResourceCounter(corrupted ? Resource.CORRUPTED_GRYM_LEAF : Resource.GRYM_LEAF, config.resourceGrym());
-		createResourceCounter(corrupted ? Resource.CORRUPTED_WEAPON_FRAME : Resource.WEAPON_FRAME, config.resourceFrame());
-		createResourceCounter(Resource.RAW_PADDLEFISH, config.resourcePaddlefish());
-		createResourceCounter(corrupted ? Resource.CORRUPTED_SHARDS : Resource.CRYSTAL_SHARDS, config.resourceShard());
-		createResourceCounter(corrupted ? Resource.CORRUPTED_BOWSTRING : Resource.CRYSTALLINE_BOWSTRING, config.resourceBowstring() ? 1 : 0);
-		createResourceCounter(corrupted ? Resource.CORRUPTED_SPIKE : Resource.CRYSTAL_SPIKE, config.resourceSpike() ? 1 : 0);
-		createResourceCounter(corrupted ? Resource.CORRUPTED_ORB : Resource.CRYSTAL_ORB, config.resourceOrb() ? 1 : 0);
+		setTarget(corrupted ? Resource.CORRUPTED_ORE : Resource.CRYSTAL_ORE, settings.resourceOre());
+		setTarget(corrupted ? Resource.CORRUPTED_PHREN_BARK : Resource.PHREN_BARK, settings.resourceBark());
+		setTarget(corrupted ? Resource.CORRUPTED_LINUM_TIRINUM : Resource.LINUM_TIRINUM, settings.resourceTirinum());
+		setTarget(corrupted ? Resource.CORRUPTED_GRYM_LEAF : Resource.GRYM_LEAF, settings.resourceGrym());
+		setTarget(corrupted ? Resource.CORRUPTED_WEAPON_FRAME : Resource.WEAPON_FRAME, settings.resourceFrame());
+		setTarget(Resource.RAW_PADDLEFISH, settings.resourcePaddlefish());
+		setTarget(corrupted ? Resource.CORRUPTED_SHARDS : Resource.CRYSTAL_SHARDS, settings.resourceShard());
+		setTarget(corrupted ? Resource.CORRUPTED_BOWSTRING : Resource.CRYSTALLINE_BOWSTRING, settings.resourceBowstring() ? 1 : 0);
+		setTarget(corrupted ? Resource.CORRUPTED_SPIKE : Resource.CRYSTAL_SPIKE, settings.resourceSpike() ? 1 : 0);
+		setTarget(corrupted ? Resource.CORRUPTED_ORB : Resource.CRYSTAL_ORB, settings.resourceOrb() ? 1 : 0);
+	}
+
+	private void setTarget(final Resource resource, final int target)
+	{
+		targets[resource.ordinal()] = Math.max(0, target);
 	}
 
 	private enum Region
@@ -237,23 +377,14 @@ class ResourceManager
 
 	private static class ResourceCounter extends InfoBox
 	{
-		private final int target;
-		private int count;
+		private int count = -1;
 		private String text;
 		private Color color = Color.WHITE;
 
-		private ResourceCounter(
-			final BufferedImage bufferedImage,
-			final TheGauntletPlugin plugin,
-			final Resource resource,
-			final int count,
-			final int target)
+		private ResourceCounter(final BufferedImage bufferedImage, final TheGauntletPlugin plugin, final Resource resource)
 		{
 			super(bufferedImage, plugin);
 			setPriority(getPriority(resource));
-			this.count = count;
-			this.target = Math.max(0, target);
-			this.text = String.valueOf(count);
 		}
 
 		@Override
@@ -268,28 +399,15 @@ class ResourceManager
 			return color;
 		}
 
-		private void updateCount(final int count)
+		private void update(final int count, final boolean acquired)
 		{
-			if (target == 0)
+			if (count != this.count)
 			{
-				this.count = Math.max(0, this.count - count);
-			}
-			else
-			{
-				this.count += count;
+				this.count = count;
+				text = String.valueOf(count);
 			}
 
-			if (hasAcquiredTarget())
-			{
-				color = Color.GRAY;
-			}
-
-			text = String.valueOf(this.count);
-		}
-
-		private boolean hasAcquiredTarget()
-		{
-			return target == 0 ? count <= target : count >= target;
+			color = acquired ? Color.GRAY : Color.WHITE;
 		}
 
 		private static InfoBoxPriority getPriority(final Resource resource)
@@ -0,0 +1,144 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.module.maze;
+
+import ca.gauntlet.TheGauntletSettings;
+import java.awt.Color;
+import java.awt.Stroke;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter(AccessLevel.PACKAGE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+final class ResourceStyle
+{
+	private static final Resource[] RESOURCES = Resource.values();
+
+	private final boolean enabled;
+	private final Color outlineColor;
+	private final Color fillColor;
+	private final Stroke tileStroke;
+	private final int hullWidth;
+	private final BufferedImage icon;
+	// Shared by every style with the same tile outline, fill and stroke, so their tiles are drawn as one path
+	private final int tileBatch;
+
+	/**
+	 * Builds the style of every resource node type, indexed by {@link Resource#ordinal()}.
+	 * Resources that are not gathered from a node have no style.
+	 */
+	static ResourceStyle[] createTable(final TheGauntletSettings settings, final IconCache iconCache)
+	{
+		final ResourceStyle[] table = new ResourceStyle[RESOURCES.length];
+
+		for (final Resource resource : RESOURCES)
+		{
+			table[resource.ordinal()] = createStyle(settings, iconCache, resource, table);
+		}
+
+		return table;
+	}
+
+	private static ResourceStyle createStyle(final TheGauntletSettings settings, final IconCache iconCache,
+		final Resource resource, final ResourceStyle[] table)
+	{
+		final boolean enabled;
+		final Color outlineColor;
+		final Color fillColor;
+
+		switch (resource)
+		{
+			case RAW_PADDLEFISH:
+				enabled = settings.overlayFishingSpot();
+				outlineColor = settings.fishingSpotOutlineColor();
+				fillColor = settings.fishingSpotFillColor();
+				break;
+			case CRYSTAL_ORE:
+			case CORRUPTED_ORE:
+				enabled = settings.overlayOreDeposit();
+				outlineColor = settings.oreDepositOutlineColor();
+				fillColor = settings.oreDepositFillColor();
+				break;
+			case PHREN_BARK:
+			case CORRUPTED_PHREN_BARK:
+				enabled = settings.overlayPhrenRoots();
+				outlineColor = settings.phrenRootsOutlineColor();
+				fillColor = settings.phrenRootsFillColor();
+				break;
+			case LINUM_TIRINUM:
+			case CORRUPTED_LINUM_TIRINUM:
+				enabled = settings.overlayLinumTirinum();
+				outlineColor = settings.linumTirinumOutlineColor();
+				fillColor = settings.linumTirinumFillColor();
+				break;
+			case GRYM_LEAF:
+			case CORRUPTED_GRYM_LEAF:
+				enabled = settings.overlayGrymRoot();
+				outlineColor = settings.grymRootOutlineColor();
+				fillColor = settings.grymRootFillColor();
+				break;
+			default:
+				return null;
+		}
+
+		final Stroke tileStroke = settings.resourceTileStroke();
+
+		return new ResourceStyle(enabled, outlineColor, fillColor, tileStroke, settings.resourceHullOutlineWidth(),
+			iconCache.getIcon(resource, settings.resourceIconSize()), findTileBatch(table, outlineColor, fillColor, tileStroke));
+	}
+
+	/**
+	 * @return the tile batch of an existing style drawn with the same tile look, or the next unused batch
+	 */
+	private static int findTileBatch(final ResourceStyle[] table, final Color outlineColor, final Color fillColor,
+		final Stroke tileStroke)
+	{
+		int next = 0;
+
+		for (final ResourceStyle style : table)
+		{
+			if (style == null)
+			{
+				continue;
+			}
+
+			if (Objects.equals(style.outlineColor, outlineColor) && Objects.equals(style.fillColor, fillColor) &&
+				Objects.equals(style.tileStroke, tileStroke))
+			{
+				return style.tileBatch;
+			}
+
+			next = Math.max(next, style.tileBatch + 1);
+		}
+
+		return next;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package ca.gauntlet.module.maze;
+
+import ca.gauntlet.TheGauntletPlugin;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Caches the {@link ResourceStyle} table, rebuilding it from the current settings snapshot on first
+ * use after being cleared by a change to a {@link ca.gauntlet.ConfigScope#MAZE_OVERLAY} key.
+ */
+@Singleton
+class ResourceStyleTable
+{
+	private final TheGauntletPlugin plugin;
+	private final IconCache iconCache;
+
+	private ResourceStyle[] styles;
+
+	@Inject
+	ResourceStyleTable(final TheGauntletPlugin plugin, final IconCache iconCache)
+	{
+		this.plugin = plugin;
+		this.iconCache = iconCache;
+	}
+
+	synchronized ResourceStyle[] getStyles()
+	{
+		if (styles == null)
+		{
+			styles = ResourceStyle.createTable(plugin.getSettings(), iconCache);
+		}
+
+		return styles;
+	}
+
+	synchronized void clear()
+	{
+		styles = null;
+	}
+}
@@ -28,16 +28,20 @@
 
 package ca.gauntlet.module.overlay;
 
-import ca.gauntlet.TheGauntletConfig;
 import ca.gauntlet.TheGauntletPlugin;
+import ca.gauntlet.history.RunHistoryStore;
+import ca.gauntlet.history.RunRecord;
+import ca.gauntlet.history.RunStatistics;
+import ca.gauntlet.history.Split;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
-import java.time.Instant;
+import java.util.Arrays;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
 import static net.runelite.api.MenuAction.RUNELITE_OVERLAY_CONFIG;
 import net.runelite.client.chat.ChatColorType;
 import net.runelite.client.chat.ChatMessageBuilder;
@@ -54,28 +58,57 @@ import net.runelite.client.ui.overlay.components.LineComponent;
 import net.runelite.client.ui.overlay.components.PanelComponent;
 import net.runelite.client.ui.overlay.components.TitleComponent;
 
+/**
+ * Run timer driven by the client tick counter, giving 0.6s resolution on a monotonic clock.
+ * <p>
+ * Splits are stored as tick offsets in a table indexed by {@link Split}. Display strings are cached
+ * and only reformatted when the tick they show changes.
+ */
 @Singleton
 public final class TimerOverlay extends OverlayPanel
 {
-	private final TheGauntletConfig config;
+	private static final int MILLIS_PER_TICK = 600;
+	private static final Split[] SPLITS = Split.values();
+
+	private final Client client;
+	private final TheGauntletPlugin plugin;
 	private final ChatMessageManager chatMessageManager;
+	private final RunHistoryStore runHistoryStore;
+	private final RunStatistics runStatistics;
 
 	private final PanelComponent timerComponent;
 	private final LineComponent prepTimeComponent;
 	private final LineComponent totalTimeComponent;
+	private final LineComponent[] splitComponents = new LineComponent[SPLITS.length];
+	private final StringBuilder formatBuilder = new StringBuilder();
 
-	private long timeGauntletStart;
-	private long timeHunllefStart;
+	// Ticks since the gauntlet start at which each split was reached, -1 if not yet
+	private final int[] splitTicks = new int[SPLITS.length];
 
-	private long lastElapsed;
+	private int tickGauntletStart;
+	private int tickGauntletEnd;
+	private int lastElapsed;
+
+	// Run details recorded to the history when the run ends
+	private boolean corrupted;
+	private boolean resumed;
+	private int[] resourceCounts = new int[0];
 
 	@Inject
-	TimerOverlay(final TheGauntletPlugin plugin, final TheGauntletConfig config, final ChatMessageManager chatMessageManager)
+	TimerOverlay(
+		final Client client,
+		final TheGauntletPlugin plugin,
+		final ChatMessageManager chatMessageManager,
+		final RunHistoryStore runHistoryStore,
+		final RunStatistics runStatistics)
 	{
 		super(plugin);
 
-		this.config = config;
+		this.client = client;
+		this.plugin = plugin;
 		this.chatMessageManager = chatMessageManager;
+		this.runHistoryStore = runHistoryStore;
+		this.runStatistics = runStatistics;
 
 		timerComponent = new PanelComponent();
 		timerComponent.setBorder(new Rectangle(2, 1, 4, 0));
@@ -88,9 +121,20 @@ public final class TimerOverlay extends OverlayPanel
 		prepTimeComponent = LineComponent.builder().left("Preparation:").right("").build();
 		totalTimeComponent = LineComponent.builder().left("Total:").right("").build();
 
-		timeGauntletStart = -1L;
-		timeHunllefStart = -1L;
-		lastElapsed = 0L;
+		for (final Split split : SPLITS)
+		{
+			splitComponents[split.ordinal()] = LineComponent.builder()
+				.left(split.getLabel())
+				.right("")
+				.leftColor(Color.LIGHT_GRAY)
+				.rightColor(Color.LIGHT_GRAY)
+				.build();
+		}
+
+		tickGauntletStart = -1;
+		tickGauntletEnd = -1;
+		lastElapsed = -1;
+		Arrays.fill(splitTicks, -1);
 
 		setClearChildren(false);
 		getMenuEntries().add(new OverlayMenuEntry(RUNELITE_OVERLAY_CONFIG, OPTION_CONFIGURE, "The Gauntlet timer"));
@@ -104,20 +148,22 @@ public final class TimerOverlay extends OverlayPanel
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
-		if (!config.timerOverlay() || timeGauntletStart == -1)
+		if (!plugin.getSettings().timerOverlay() || tickGauntletStart == -1 || !plugin.isInGauntlet())
 		{
 			return null;
 		}
 
 		graphics2D.setFont(FontManager.getRunescapeSmallFont());
 
-		final LineComponent lineComponent = timeHunllefStart == -1 ? prepTimeComponent : totalTimeComponent;
+		final boolean preparing = splitTicks[Split.HUNLLEF.ordinal()] == -1;
+		final LineComponent lineComponent = preparing ? prepTimeComponent : totalTimeComponent;
 
-		final long elapsed = Instant.now().getEpochSecond() - timeGauntletStart;
+		final int elapsed = getElapsedTicks();
 
 		if (elapsed != lastElapsed)
 		{
-			lineComponent.setRight(formatElapsedTime(elapsed));
+			// Preparation is compared live against the best and median preparation times
+			lineComponent.setRight(preparing ? formatSplit(Split.HUNLLEF, elapsed) : formatTicks(elapsed));
 			lastElapsed = elapsed;
 		}
 
@@ -126,36 +172,105 @@ public final class TimerOverlay extends OverlayPanel
 
 	public void reset()
 	{
-		timeGauntletStart = -1L;
-		timeHunllefStart = -1L;
-		lastElapsed = 0L;
+		tickGauntletStart = -1;
+		tickGauntletEnd = -1;
+		lastElapsed = -1;
+		Arrays.fill(splitTicks, -1);
 		prepTimeComponent.setRight("");
 		totalTimeComponent.setRight("");
 		timerComponent.getChildren().clear();
 	}
 
-	public void setGauntletStart()
+	/**
+	 * Starts the timer from the current tick. A restart while a run is already being timed, e.g.
+	 * the timer widget loading again after a relog, marks the run as resumed.
+	 */
+	public void setGauntletStart(final boolean corrupted)
+	{
+		start(corrupted, tickGauntletStart != -1 && tickGauntletEnd == -1);
+	}
+
+	/**
+	 * Starts the timer from the current tick for a run that was already in progress, so its
+	 * times are not recorded as comparable to full runs.
+	 */
+	public void resumeGauntlet(final boolean corrupted)
+	{
+		start(corrupted, true);
+	}
+
+	private void start(final boolean corrupted, final boolean resumed)
 	{
-		timeGauntletStart = Instant.now().getEpochSecond();
-		prepTimeComponent.setLeftColor(Color.WHITE);
-		prepTimeComponent.setRightColor(Color.WHITE);
+		this.corrupted = corrupted;
+		this.resumed = resumed;
+		Arrays.fill(resourceCounts, 0);
+		tickGauntletStart = client.getTickCount();
+		tickGauntletEnd = -1;
+		lastElapsed = -1;
+		Arrays.fill(splitTicks, -1);
 		timerComponent.getChildren().clear();
 		timerComponent.getChildren().add(prepTimeComponent);
 	}
 
 	public void setHunllefStart()
 	{
-		timeHunllefStart = Instant.now().getEpochSecond();
-		prepTimeComponent.setLeftColor(Color.LIGHT_GRAY);
-		prepTimeComponent.setRightColor(Color.LIGHT_GRAY);
-		timerComponent.getChildren().clear();
-		timerComponent.getChildren().add(prepTimeComponent);
+		recordSplit(Split.HUNLLEF);
+		lastElapsed = -1;
+		timerComponent.getChildren().remove(prepTimeComponent);
 		timerComponent.getChildren().add(totalTimeComponent);
 	}
 
+	public void recordDemibossKill()
+	{
+		if (!recordSplit(Split.DEMIBOSS_1) && !recordSplit(Split.DEMIBOSS_2))
+		{
+			recordSplit(Split.DEMIBOSS_3);
+		}
+	}
+
+	/**
+	 * Records the split at the current tick if the run has started and it has not been reached yet.
+	 *
+	 * @return true if the split was recorded
+	 */
+	public boolean recordSplit(final Split split)
+	{
+		final int index = split.ordinal();
+
+		if (tickGauntletStart == -1 || tickGauntletEnd != -1 || splitTicks[index] != -1)
+		{
+			return false;
+		}
+
+		final int ticks = getElapsedTicks();
+		splitTicks[index] = ticks;
+
+		// Splits are listed in the order reached, above the running time
+		final LineComponent splitComponent = splitComponents[index];
+		splitComponent.setRight(formatSplit(split, ticks));
+		final int size = timerComponent.getChildren().size();
+		timerComponent.getChildren().add(Math.max(0, size - 1), splitComponent);
+		return true;
+	}
+
+	/**
+	 * Stores the gathered resource totals, indexed by resource ordinal, to be saved with the run.
+	 */
+	public void setResourceCounts(final int[] counts)
+	{
+		resourceCounts = Arrays.copyOf(counts, counts.length);
+	}
+
+	public void onHunllefDeath()
+	{
+		endRun(RunRecord.Outcome.COMPLETED);
+	}
+
 	public void onPlayerDeath()
 	{
-		if (!config.timerChatMessage())
+		endRun(RunRecord.Outcome.DEATH);
+
+		if (!plugin.getSettings().timerChatMessage())
 		{
 			return;
 		}
@@ -164,18 +279,46 @@ public final class TimerOverlay extends OverlayPanel
 		reset();
 	}
 
+	private void endRun(final RunRecord.Outcome outcome)
+	{
+		if (tickGauntletStart == -1 || tickGauntletEnd != -1)
+		{
+			return;
+		}
+
+		tickGauntletEnd = client.getTickCount();
+
+		runHistoryStore.append(RunRecord.of(
+			System.currentTimeMillis(),
+			corrupted,
+			resumed,
+			outcome,
+			getElapsedTicks(),
+			splitTicks,
+			resourceCounts
+		));
+	}
+
+	private int getElapsedTicks()
+	{
+		// Frozen once the run has ended
+		return (tickGauntletEnd == -1 ? client.getTickCount() : tickGauntletEnd) - tickGauntletStart;
+	}
+
 	private void printTime()
 	{
-		if (timeGauntletStart == -1 || timeHunllefStart == -1)
+		final int hunllefTicks = splitTicks[Split.HUNLLEF.ordinal()];
+
+		if (tickGauntletStart == -1 || hunllefTicks == -1)
 		{
 			return;
 		}
 
-		final long current = Instant.now().getEpochSecond();
+		final int elapsed = getElapsedTicks();
 
-		final String elapsedPrepTime = formatElapsedTime(timeHunllefStart, timeGauntletStart);
-		final String elapsedBossTime = formatElapsedTime(current, timeHunllefStart);
-		final String elapsedTotalTime = formatElapsedTime(current, timeGauntletStart);
+		final String elapsedPrepTime = formatTicks(hunllefTicks);
+		final String elapsedBossTime = formatTicks(elapsed - hunllefTicks);
+		final String elapsedTotalTime = formatTicks(elapsed);
 
 		final ChatMessageBuilder chatMessageBuilder = new ChatMessageBuilder()
 			.append(ChatColorType.NORMAL)
@@ -199,17 +342,59 @@ public final class TimerOverlay extends OverlayPanel
 			.build());
 	}
 
-	private static String formatElapsedTime(final long end, final long start)
+	/**
+	 * Formats the split time followed by its delta to the personal best and median, when there is history.
+	 */
+	private String formatSplit(final Split split, final int ticks)
+	{
+		final RunStatistics.Snapshot snapshot = runStatistics.getSnapshot();
+		final int best = snapshot.getBest(corrupted, split);
+
+		formatBuilder.setLength(0);
+		appendTicks(formatBuilder, ticks);
+
+		if (best != -1)
+		{
+			formatBuilder.append(" (");
+			appendDelta(ticks - best);
+			formatBuilder.append(" / ");
+			appendDelta(ticks - snapshot.getMedian(corrupted, split));
+			formatBuilder.append(')');
+		}
+
+		return formatBuilder.toString();
+	}
+
+	private String formatTicks(final int ticks)
 	{
-		return formatElapsedTime(end - start);
+		formatBuilder.setLength(0);
+		appendTicks(formatBuilder, ticks);
+		return formatBuilder.toString();
 	}
 
-	private static String formatElapsedTime(final long elapsed)
+	private void appendDelta(final int ticks)
 	{
-		final long minutes = elapsed % 3600 / 60;
-		final long seconds = elapsed % 60;
+		formatBuilder.append(ticks < 0 ? '-' : '+');
+		appendTicks(formatBuilder, Math.abs(ticks));
+	}
 
-		return String.format("%01d:%02d", minutes, seconds);
+	/**
+	 * Appends the tick count as m:ss.t game time.
+	 */
+	public static void appendTicks(final StringBuilder builder, final int ticks)
+	{
+		final long millis = (long) Math.max(0, ticks) * MILLIS_PER_TICK;
+		final long minutes = millis / 60_000;
+		final long seconds = millis / 1000 % 60;
+		final long tenths = millis / 100 % 10;
+
+		builder.append(minutes).append(':');
+
+		if (seconds < 10)
+		{
+			builder.append('0');
+		}
+
+		builder.append(seconds).append('.').append(tenths);
 	}
 }
-
@@ -0,0 +1,237 @@
+package ca.gauntlet.history;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RunHistoryStoreTest
+{
+	private static final Split[] SPLITS = Split.values();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path historyFile;
+	private ScheduledExecutorService executorService;
+
+	@Before
+	public void before()
+	{
+		historyFile = folder.getRoot().toPath().resolve("the-gauntlet").resolve("runs.dat");
+		executorService = Executors.newSingleThreadScheduledExecutor();
+	}
+
+	@After
+	public void after()
+	{
+		executorService.shutdownNow();
+	}
+
+	@Test
+	public void testRecordRoundTrip()
+	{
+		final RunRecord record = completedRun(1_700_000_000_123L, 40_000);
+		final ByteBuffer buffer = ByteBuffer.allocate(RunRecord.SIZE);
+
+		record.write(buffer);
+
+		assertEquals(RunRecord.SIZE, buffer.position());
+
+		buffer.flip();
+		final RunRecord read = RunRecord.read(buffer);
+
+		assertEquals(RunRecord.SIZE, buffer.position());
+		assertRecord(record, read);
+		assertEquals(Short.MAX_VALUE, read.getResourceCount(1));
+	}
+
+	@Test
+	public void testAppendAndLoad() throws Exception
+	{
+		final RunRecord completed = completedRun(1_700_000_000_000L, 40_000);
+		final RunRecord death = RunRecord.of(
+			1_700_000_500_000L,
+			false,
+			true,
+			RunRecord.Outcome.DEATH,
+			312,
+			new int[]{100, -1, -1},
+			new int[0]
+		);
+
+		final RunHistoryStore store = new RunHistoryStore(executorService, historyFile);
+		store.append(completed);
+		store.append(death);
+		awaitFlush();
+
+		assertEquals(RunHistoryStore.HEADER_SIZE + 2 * RunRecord.SIZE, Files.size(historyFile));
+		assertEquals(2, store.getRecords().size());
+
+		final List<RunRecord> records = load();
+
+		assertEquals(2, records.size());
+		assertRecord(completed, records.get(0));
+		assertRecord(death, records.get(1));
+
+		for (final Split split : SPLITS)
+		{
+			if (split != Split.DEMIBOSS_1)
+			{
+				assertEquals(-1, records.get(1).getSplitTicks(split));
+			}
+		}
+	}
+
+	@Test
+	public void testTornRecordIsIgnoredAndTruncated() throws Exception
+	{
+		final RunRecord first = completedRun(1_700_000_000_000L, 3);
+		final RunRecord second = completedRun(1_700_000_900_000L, 5);
+
+		final RunHistoryStore store = new RunHistoryStore(executorService, historyFile);
+		store.append(first);
+		awaitFlush();
+
+		// A crash part way through writing a record leaves its head behind
+		final ByteBuffer torn = ByteBuffer.allocate(RunRecord.SIZE);
+		second.write(torn);
+		Files.write(historyFile, Arrays.copyOf(torn.array(), RunRecord.SIZE / 2), StandardOpenOption.APPEND);
+
+		List<RunRecord> records = load();
+
+		assertEquals(1, records.size());
+		assertRecord(first, records.get(0));
+
+		executorService = Executors.newSingleThreadScheduledExecutor();
+		final RunHistoryStore reopened = new RunHistoryStore(executorService, historyFile);
+		reopened.append(second);
+		awaitFlush();
+
+		assertEquals(RunHistoryStore.HEADER_SIZE + 2 * RunRecord.SIZE, Files.size(historyFile));
+
+		records = load();
+
+		assertEquals(2, records.size());
+		assertRecord(first, records.get(0));
+		assertRecord(second, records.get(1));
+	}
+
+	@Test
+	public void testUnknownMagicIsNotReadOrAppended() throws Exception
+	{
+		assertUnknownHeaderRefused(RunHistoryStore.MAGIC + 1, RunHistoryStore.VERSION, RunRecord.SIZE);
+	}
+
+	@Test
+	public void testUnknownVersionIsNotReadOrAppended() throws Exception
+	{
+		assertUnknownHeaderRefused(RunHistoryStore.MAGIC, RunHistoryStore.VERSION + 1, RunRecord.SIZE);
+	}
+
+	@Test
+	public void testUnknownRecordSizeIsNotReadOrAppended() throws Exception
+	{
+		assertUnknownHeaderRefused(RunHistoryStore.MAGIC, RunHistoryStore.VERSION, RunRecord.SIZE + 2);
+	}
+
+	private void assertUnknownHeaderRefused(final int magic, final int version, final int recordSize) throws Exception
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate(RunHistoryStore.HEADER_SIZE + RunRecord.SIZE);
+		buffer.putInt(magic);
+		buffer.putInt(version);
+		buffer.putInt(recordSize);
+		buffer.putInt(0);
+		completedRun(1_700_000_000_000L, 1).write(buffer);
+
+		Files.createDirectories(historyFile.getParent());
+		Files.write(historyFile, buffer.array());
+
+		final List<List<RunRecord>> loads = new ArrayList<>();
+		final List<RunRecord> appended = new ArrayList<>();
+		final RunHistoryStore store = new RunHistoryStore(executorService, historyFile);
+		store.addListener(new RunHistoryListener()
+		{
+			@Override
+			public void onRunsLoaded(final List<RunRecord> records)
+			{
+				loads.add(records);
+			}
+
+			@Override
+			public void onRunAppended(final RunRecord record)
+			{
+				appended.add(record);
+			}
+		});
+
+		store.load();
+
+		assertTrue(store.getRecords().isEmpty());
+		assertTrue(loads.isEmpty());
+
+		store.append(completedRun(1_700_000_900_000L, 2));
+		awaitFlush();
+
+		assertArrayEquals(buffer.array(), Files.readAllBytes(historyFile));
+		assertTrue(store.getRecords().isEmpty());
+		assertTrue(appended.isEmpty());
+	}
+
+	private List<RunRecord> load()
+	{
+		final RunHistoryStore store = new RunHistoryStore(executorService, historyFile);
+		store.load();
+		return store.getRecords();
+	}
+
+	private void awaitFlush() throws InterruptedException
+	{
+		executorService.shutdown();
+		assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+	}
+
+	private static RunRecord completedRun(final long timestamp, final int shards)
+	{
+		final int[] splitTicks = new int[SPLITS.length];
+		Arrays.fill(splitTicks, -1);
+		splitTicks[Split.DEMIBOSS_1.ordinal()] = 250;
+		splitTicks[Split.TIER_2.ordinal()] = 410;
+		splitTicks[Split.HUNLLEF.ordinal()] = 900;
+
+		return RunRecord.of(timestamp, true, false, RunRecord.Outcome.COMPLETED, 1_050, splitTicks, new int[]{0, shards, 7});
+	}
+
+	private static void assertRecord(final RunRecord expected, final RunRecord actual)
+	{
+		assertEquals(expected.getTimestamp(), actual.getTimestamp());
+		assertEquals(expected.isCorrupted(), actual.isCorrupted());
+		assertEquals(expected.isResumed(), actual.isResumed());
+		assertEquals(expected.getOutcome(), actual.getOutcome());
+		assertEquals(expected.getTotalTicks(), actual.getTotalTicks());
+
+		for (final Split split : SPLITS)
+		{
+			assertEquals(split.name(), expected.getSplitTicks(split), actual.getSplitTicks(split));
+		}
+
+		for (int i = 0; i < RunRecord.RESOURCE_SLOTS; i++)
+		{
+			assertEquals("resource " + i, Math.min(expected.getResourceCount(i), Short.MAX_VALUE), actual.getResourceCount(i));
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package ca.gauntlet.history;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class RunStatisticsTest
+{
+	@Test
+	public void testEmpty()
+	{
+		final RunStatistics.Snapshot snapshot = new RunStatistics().getSnapshot();
+
+		assertEquals(0, snapshot.getRuns(false));
+		assertEquals(0, snapshot.getDeathRate(false), 0);
+		assertEquals(-1, snapshot.getBest(false, Split.HUNLLEF));
+		assertEquals(-1, snapshot.getMedian(false, Split.HUNLLEF));
+		assertEquals(-1, snapshot.getBossTicks(false, RunStatistics.Percentile.P99));
+	}
+
+	@Test
+	public void testBestAndPercentiles()
+	{
+		final List<RunRecord> records = new ArrayList<>();
+
+		for (int prep = 1_000; prep > 900; prep--)
+		{
+			records.add(run(false, false, RunRecord.Outcome.COMPLETED, prep, prep + 200));
+		}
+
+		final RunStatistics statistics = new RunStatistics();
+		statistics.onRunsLoaded(records);
+
+		final RunStatistics.Snapshot snapshot = statistics.getSnapshot();
+
+		assertEquals(100, snapshot.getRuns(false));
+		assertEquals(901, snapshot.getBest(false, Split.HUNLLEF));
+		assertEquals(950, snapshot.getMedian(false, Split.HUNLLEF));
+		assertEquals(990, snapshot.getSplitTicks(false, Split.HUNLLEF, RunStatistics.Percentile.P90));
+		assertEquals(999, snapshot.getSplitTicks(false, Split.HUNLLEF, RunStatistics.Percentile.P99));
+		assertEquals(200, snapshot.getBossTicks(false, RunStatistics.Percentile.P50));
+		assertEquals(-1, snapshot.getBest(false, Split.DEMIBOSS_1));
+		assertEquals(-1, snapshot.getBest(true, Split.HUNLLEF));
+	}
+
+	@Test
+	public void testBestIsExactBeyondOverflowBucket()
+	{
+		final RunStatistics statistics = new RunStatistics();
+		statistics.onRunsLoaded(List.of(
+			run(false, false, RunRecord.Outcome.COMPLETED, 3_600, 3_900),
+			run(false, false, RunRecord.Outcome.COMPLETED, 3_500, 3_800)
+		));
+
+		final RunStatistics.Snapshot snapshot = statistics.getSnapshot();
+
+		assertEquals(3_500, snapshot.getBest(false, Split.HUNLLEF));
+		assertEquals(TickHistogram.MAX_TICKS, snapshot.getMedian(false, Split.HUNLLEF));
+	}
+
+	@Test
+	public void testAppendedRunsUpdateSnapshot()
+	{
+		final RunStatistics statistics = new RunStatistics();
+		statistics.onRunsLoaded(List.of(run(true, false, RunRecord.Outcome.COMPLETED, 1_200, 1_500)));
+
+		final RunStatistics.Snapshot loaded = statistics.getSnapshot();
+
+		statistics.onRunAppended(run(true, false, RunRecord.Outcome.COMPLETED, 1_100, 1_350));
+
+		assertEquals(1_200, loaded.getBest(true, Split.HUNLLEF));
+		assertEquals(1_100, statistics.getSnapshot().getBest(true, Split.HUNLLEF));
+		assertEquals(2, statistics.getSnapshot().getRuns(true));
+	}
+
+	@Test
+	public void testBossTimeOnlyCountsKills()
+	{
+		final RunStatistics statistics = new RunStatistics();
+		statistics.onRunsLoaded(List.of(
+			run(false, false, RunRecord.Outcome.COMPLETED, 1_000, 1_300),
+			run(false, false, RunRecord.Outcome.DEATH, 1_000, 1_010),
+			run(false, false, RunRecord.Outcome.DEATH, -1, 500)
+		));
+
+		final RunStatistics.Snapshot snapshot = statistics.getSnapshot();
+
+		assertEquals(3, snapshot.getRuns(false));
+		assertEquals(2.0 / 3, snapshot.getDeathRate(false), 1e-9);
+		assertEquals(300, snapshot.getBossTicks(false, RunStatistics.Percentile.P50));
+		assertEquals(300, snapshot.getBossTicks(false, RunStatistics.Percentile.P99));
+	}
+
+	@Test
+	public void testResumedRunsOnlyCountOutcome()
+	{
+		final RunStatistics statistics = new RunStatistics();
+		statistics.onRunsLoaded(List.of(
+			run(false, false, RunRecord.Outcome.COMPLETED, 1_000, 1_300),
+			run(false, true, RunRecord.Outcome.COMPLETED, 100, 400)
+		));
+
+		final RunStatistics.Snapshot snapshot = statistics.getSnapshot();
+
+		assertEquals(2, snapshot.getRuns(false));
+		assertEquals(1_000, snapshot.getBest(false, Split.HUNLLEF));
+	}
+
+	private static RunRecord run(
+		final boolean corrupted,
+		final boolean resumed,
+		final RunRecord.Outcome outcome,
+		final int prepTicks,
+		final int totalTicks)
+	{
+		final int[] splitTicks = new int[Split.values().length];
+		Arrays.fill(splitTicks, -1);
+		splitTicks[Split.HUNLLEF.ordinal()] = prepTicks;
+
+		return RunRecord.of(0, corrupted, resumed, outcome, totalTicks, splitTicks, new int[0]);
+	}
+}
@@ -0,0 +1,163 @@
+package ca.gauntlet.module;
+
+import ca.gauntlet.module.EntityClassifier.Category;
+import ca.gauntlet.module.maze.Resource;
+import java.util.List;
+import java.util.Map;
+import net.runelite.api.NpcID;
+import net.runelite.api.NullNpcID;
+import net.runelite.api.ObjectID;
+import net.runelite.api.Prayer;
+import net.runelite.api.Skill;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class EntityClassifierTest
+{
+	// The id lists and switch mappings EntityClassifier replaced
+	private static final List<Integer> NPC_IDS_DEMIBOSS = List.of(
+		NpcID.CRYSTALLINE_BEAR,
+		NpcID.CRYSTALLINE_DARK_BEAST,
+		NpcID.CRYSTALLINE_DRAGON,
+		NpcID.CORRUPTED_BEAR,
+		NpcID.CORRUPTED_DARK_BEAST,
+		NpcID.CORRUPTED_DRAGON
+	);
+
+	private static final List<Integer> GAME_OBJECT_IDS_RESOURCE = List.of(
+		ObjectID.CRYSTAL_DEPOSIT,
+		ObjectID.PHREN_ROOTS,
+		ObjectID.FISHING_SPOT_36068,
+		ObjectID.GRYM_ROOT,
+		ObjectID.LINUM_TIRINUM,
+		ObjectID.CORRUPT_DEPOSIT,
+		ObjectID.CORRUPT_PHREN_ROOTS,
+		ObjectID.CORRUPT_FISHING_SPOT,
+		ObjectID.CORRUPT_GRYM_ROOT,
+		ObjectID.CORRUPT_LINUM_TIRINUM
+	);
+
+	private static final List<Integer> GAME_OBJECT_IDS_UTILITY = List.of(
+		ObjectID.SINGING_BOWL_35966,
+		ObjectID.RANGE_35980,
+		ObjectID.WATER_PUMP_35981,
+		ObjectID.SINGING_BOWL_36063,
+		ObjectID.RANGE_36077,
+		ObjectID.WATER_PUMP_36078
+	);
+
+	private static final List<Integer> HUNLLEF_IDS = List.of(
+		NpcID.CRYSTALLINE_HUNLLEF,
+		NpcID.CRYSTALLINE_HUNLLEF_9022,
+		NpcID.CRYSTALLINE_HUNLLEF_9023,
+		NpcID.CRYSTALLINE_HUNLLEF_9024,
+		NpcID.CORRUPTED_HUNLLEF,
+		NpcID.CORRUPTED_HUNLLEF_9036,
+		NpcID.CORRUPTED_HUNLLEF_9037,
+		NpcID.CORRUPTED_HUNLLEF_9038
+	);
+
+	private static final List<Integer> TORNADO_IDS = List.of(NullNpcID.NULL_9025, NullNpcID.NULL_9039);
+
+	private static final Map<Integer, Resource> RESOURCES = Map.of(
+		ObjectID.CRYSTAL_DEPOSIT, Resource.CRYSTAL_ORE,
+		ObjectID.CORRUPT_DEPOSIT, Resource.CORRUPTED_ORE,
+		ObjectID.PHREN_ROOTS, Resource.PHREN_BARK,
+		ObjectID.CORRUPT_PHREN_ROOTS, Resource.CORRUPTED_PHREN_BARK,
+		ObjectID.LINUM_TIRINUM, Resource.LINUM_TIRINUM,
+		ObjectID.CORRUPT_LINUM_TIRINUM, Resource.CORRUPTED_LINUM_TIRINUM,
+		ObjectID.GRYM_ROOT, Resource.GRYM_LEAF,
+		ObjectID.CORRUPT_GRYM_ROOT, Resource.CORRUPTED_GRYM_LEAF,
+		ObjectID.CORRUPT_FISHING_SPOT, Resource.RAW_PADDLEFISH,
+		ObjectID.FISHING_SPOT_36068, Resource.RAW_PADDLEFISH
+	);
+
+	private static final Map<Integer, Skill> DEMIBOSS_SKILLS = Map.of(
+		NpcID.CRYSTALLINE_BEAR, Skill.ATTACK,
+		NpcID.CORRUPTED_BEAR, Skill.ATTACK,
+		NpcID.CRYSTALLINE_DARK_BEAST, Skill.RANGED,
+		NpcID.CORRUPTED_DARK_BEAST, Skill.RANGED,
+		NpcID.CRYSTALLINE_DRAGON, Skill.MAGIC,
+		NpcID.CORRUPTED_DRAGON, Skill.MAGIC
+	);
+
+	private static final Map<Integer, Prayer> HUNLLEF_PROTECTIONS = Map.of(
+		NpcID.CRYSTALLINE_HUNLLEF, Prayer.PROTECT_FROM_MELEE,
+		NpcID.CORRUPTED_HUNLLEF, Prayer.PROTECT_FROM_MELEE,
+		NpcID.CRYSTALLINE_HUNLLEF_9022, Prayer.PROTECT_FROM_MISSILES,
+		NpcID.CORRUPTED_HUNLLEF_9036, Prayer.PROTECT_FROM_MISSILES,
+		NpcID.CRYSTALLINE_HUNLLEF_9023, Prayer.PROTECT_FROM_MAGIC,
+		NpcID.CORRUPTED_HUNLLEF_9037, Prayer.PROTECT_FROM_MAGIC
+	);
+
+	// Ids around the gauntlet ranges, covering every listed id and its neighbours
+	private static final int MIN_ID = 0;
+	private static final int MAX_ID = 50_000;
+
+	private static Category legacyObjectCategory(final int id)
+	{
+		if (GAME_OBJECT_IDS_RESOURCE.contains(id))
+		{
+			return Category.RESOURCE;
+		}
+		else if (GAME_OBJECT_IDS_UTILITY.contains(id))
+		{
+			return Category.UTILITY;
+		}
+
+		return Category.NONE;
+	}
+
+	private static Category legacyNpcCategory(final int id)
+	{
+		if (NPC_IDS_DEMIBOSS.contains(id))
+		{
+			return Category.DEMIBOSS;
+		}
+		else if (TORNADO_IDS.contains(id))
+		{
+			return Category.TORNADO;
+		}
+		else if (HUNLLEF_IDS.contains(id))
+		{
+			return Category.HUNLLEF;
+		}
+
+		return Category.NONE;
+	}
+
+	@Test
+	public void testObjectCategoriesMatchLegacyLists()
+	{
+		for (int id = MIN_ID; id <= MAX_ID; id++)
+		{
+			assertEquals("object " + id, legacyObjectCategory(id), EntityClassifier.getObjectCategory(id));
+			assertEquals("object " + id, RESOURCES.get(id), EntityClassifier.getResource(id));
+		}
+	}
+
+	@Test
+	public void testNpcCategoriesMatchLegacyLists()
+	{
+		for (int id = MIN_ID; id <= MAX_ID; id++)
+		{
+			assertEquals("npc " + id, legacyNpcCategory(id), EntityClassifier.getNpcCategory(id));
+			assertEquals("npc " + id, DEMIBOSS_SKILLS.get(id), EntityClassifier.getDemibossSkill(id));
+			assertEquals("npc " + id, HUNLLEF_PROTECTIONS.get(id), EntityClassifier.getHunllefProtection(id));
+		}
+	}
+
+	@Test
+	public void testIdsOutsideTables()
+	{
+		for (final int id : new int[]{Integer.MIN_VALUE, -1, Integer.MAX_VALUE})
+		{
+			assertEquals(Category.NONE, EntityClassifier.getObjectCategory(id));
+			assertEquals(Category.NONE, EntityClassifier.getNpcCategory(id));
+			assertNull(EntityClassifier.getResource(id));
+			assertNull(EntityClassifier.getDemibossSkill(id));
+			assertNull(EntityClassifier.getHunllefProtection(id));
+		}
+	}
+}
@@ -0,0 +1,235 @@
+package ca.gauntlet.module;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class EntityRegistryTest
+{
+	// Keys are compared by identity, so distinct instances stand in for game objects
+	private final Object a = new Object();
+	private final Object b = new Object();
+	private final Object c = new Object();
+	private final Object d = new Object();
+
+	@Test
+	public void testAddInInsertionOrder()
+	{
+		final EntityRegistry<Object, String> registry = registry();
+
+		assertEquals(Arrays.asList("a", "b", "c", "d"), values(registry));
+		assertEquals(4, registry.size());
+		assertEquals("c", registry.get(c));
+		assertTrue(registry.contains(c));
+	}
+
+	@Test
+	public void testPutExistingKeyReplacesValueInPlace()
+	{
+		final EntityRegistry<Object, String> registry = registry();
+
+		registry.put(b, "b2");
+
+		assertEquals(Arrays.asList("a", "b2", "c", "d"), values(registry));
+		assertEquals(4, registry.size());
+	}
+
+	@Test
+	public void testKeysAreComparedByIdentity()
+	{
+		final EntityRegistry<String, String> registry = new EntityRegistry<>();
+		final String key = "key";
+		final String equalKey = new String(key);
+
+		registry.put(key, "first");
+		registry.put(equalKey, "second");
+
+		assertEquals(2, registry.size());
+		assertEquals("first", registry.get(key));
+		assertEquals("second", registry.get(equalKey));
+	}
+
+	@Test
+	public void testRemove()
+	{
+		final EntityRegistry<Object, String> registry = registry();
+
+		assertEquals("a", registry.remove(a));
+		assertEquals("c", registry.remove(c));
+		assertEquals("d", registry.remove(d));
+		assertNull(registry.remove(d));
+
+		assertEquals(Arrays.asList("b"), values(registry));
+		assertEquals(1, registry.size());
+		assertFalse(registry.contains(a));
+		assertNull(registry.get(a));
+
+		assertEquals("b", registry.remove(b));
+
+		assertTrue(registry.isEmpty());
+		assertEquals(0, registry.size());
+		assertFalse(registry.iterator().hasNext());
+	}
+
+	@Test
+	public void testReAddAfterRemoveMovesToEnd()
+	{
+		final EntityRegistry<Object, String> registry = registry();
+
+		registry.remove(b);
+		registry.put(b, "b");
+
+		assertEquals(Arrays.asList("a", "c", "d", "b"), values(registry));
+
+		registry.remove(d);
+		registry.remove(b);
+		registry.put(d, "d");
+
+		assertEquals(Arrays.asList("a", "c", "d"), values(registry));
+	}
+
+	@Test
+	public void testClear()
+	{
+		final EntityRegistry<Object, String> registry = registry();
+
+		registry.clear();
+
+		assertTrue(registry.isEmpty());
+		assertFalse(registry.contains(a));
+		assertFalse(registry.iterator().hasNext());
+
+		registry.put(c, "c");
+
+		assertEquals(Arrays.asList("c"), values(registry));
+	}
+
+	@Test
+	public void testRemoveCurrentDuringIteration()
+	{
+		final EntityRegistry<Object, String> registry = registry();
+		final List<String> seen = new ArrayList<>();
+
+		for (final String value : registry)
+		{
+			seen.add(value);
+
+			if (value.equals("b"))
+			{
+				registry.remove(b);
+			}
+		}
+
+		assertEquals(Arrays.asList("a", "b", "c", "d"), seen);
+		assertEquals(Arrays.asList("a", "c", "d"), values(registry));
+	}
+
+	@Test
+	public void testRemoveNeighboursDuringIteration()
+	{
+		final EntityRegistry<Object, String> registry = registry();
+		final List<String> seen = new ArrayList<>();
+
+		for (final String value : registry)
+		{
+			seen.add(value);
+
+			// Removes the current entry and the one the iterator would visit next
+			if (value.equals("b"))
+			{
+				registry.remove(b);
+				registry.remove(c);
+			}
+		}
+
+		assertEquals(Arrays.asList("a", "b", "d"), seen);
+		assertEquals(Arrays.asList("a", "d"), values(registry));
+	}
+
+	@Test
+	public void testRemoveAheadDuringIteration()
+	{
+		final EntityRegistry<Object, String> registry = registry();
+		final List<String> seen = new ArrayList<>();
+
+		for (final String value : registry)
+		{
+			seen.add(value);
+
+			// Removed in the opposite order, leaving a chain of removed entries behind the current one
+			if (value.equals("a"))
+			{
+				registry.remove(c);
+				registry.remove(b);
+			}
+		}
+
+		assertEquals(Arrays.asList("a", "d"), seen);
+		assertEquals(Arrays.asList("a", "d"), values(registry));
+	}
+
+	@Test
+	public void testRemoveTailDuringIteration()
+	{
+		final EntityRegistry<Object, String> registry = registry();
+		final List<String> seen = new ArrayList<>();
+
+		for (final String value : registry)
+		{
+			seen.add(value);
+
+			if (value.equals("c"))
+			{
+				registry.remove(c);
+				registry.remove(d);
+			}
+		}
+
+		assertEquals(Arrays.asList("a", "b", "c"), seen);
+		assertEquals(Arrays.asList("a", "b"), values(registry));
+
+		registry.put(d, "d");
+
+		assertEquals(Arrays.asList("a", "b", "d"), values(registry));
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testIteratorPastEnd()
+	{
+		final EntityRegistry<Object, String> registry = new EntityRegistry<>();
+		registry.put(a, "a");
+
+		final Iterator<String> iterator = registry.iterator();
+		iterator.next();
+		iterator.next();
+	}
+
+	private EntityRegistry<Object, String> registry()
+	{
+		final EntityRegistry<Object, String> registry = new EntityRegistry<>();
+		registry.put(a, "a");
+		registry.put(b, "b");
+		registry.put(c, "c");
+		registry.put(d, "d");
+		return registry;
+	}
+
+	private static List<String> values(final EntityRegistry<Object, String> registry)
+	{
+		final List<String> values = new ArrayList<>();
+
+		for (final String value : registry)
+		{
+			values.add(value);
+		}
+
+		return values;
+	}
+}
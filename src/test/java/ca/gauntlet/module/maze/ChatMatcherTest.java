@@ -0,0 +1,360 @@
+package ca.gauntlet.module.maze;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import net.runelite.client.util.Text;
+import org.junit.Test;
+
+public class ChatMatcherTest
+{
+	// The per-resource patterns ChatMatcher replaced
+	private static final Map<Resource, Pattern> SKILL_PATTERNS = new EnumMap<>(Resource.class);
+
+	static
+	{
+		SKILL_PATTERNS.put(Resource.RAW_PADDLEFISH, Pattern.compile("You manage to catch a fish\\."));
+		SKILL_PATTERNS.put(Resource.CRYSTAL_SHARDS, Pattern.compile("You find (\\d+) crystal shards\\."));
+		SKILL_PATTERNS.put(Resource.CORRUPTED_SHARDS, Pattern.compile("You find (\\d+) corrupted shards\\."));
+		SKILL_PATTERNS.put(Resource.CRYSTAL_ORE, Pattern.compile("You manage to mine some ore\\."));
+		SKILL_PATTERNS.put(Resource.CORRUPTED_ORE, Pattern.compile("You manage to mine some ore\\."));
+		SKILL_PATTERNS.put(Resource.PHREN_BARK, Pattern.compile("You get some bark\\."));
+		SKILL_PATTERNS.put(Resource.CORRUPTED_PHREN_BARK, Pattern.compile("You get some bark\\."));
+		SKILL_PATTERNS.put(Resource.LINUM_TIRINUM, Pattern.compile("You pick some fibre from the plant\\."));
+		SKILL_PATTERNS.put(Resource.CORRUPTED_LINUM_TIRINUM, Pattern.compile("You pick some fibre from the plant\\."));
+		SKILL_PATTERNS.put(Resource.GRYM_LEAF, Pattern.compile("You pick a herb from the roots\\."));
+		SKILL_PATTERNS.put(Resource.CORRUPTED_GRYM_LEAF, Pattern.compile("You pick a herb from the roots\\."));
+	}
+
+	// The loot drop pattern ChatMatcher replaced
+	private static final Pattern PATTERN_RESOURCE_DROP = Pattern.compile("^.+ drop:\\s+((?<quantity>\\d+) x )?(?<name>.+)$");
+
+	private static final String[] DROP_PREFIXES = {"Untradeable drop:", "Valuable drop:", "Dropped drop:"};
+
+	/**
+	 * The removed {@code Resource.fromPattern} lookup, packed the same way as {@link ChatMatcher}.
+	 */
+	private static int legacyMatchSkillMessage(final String message, final boolean corrupted)
+	{
+		for (final Map.Entry<Resource, Pattern> entry : SKILL_PATTERNS.entrySet())
+		{
+			final Resource resource = entry.getKey();
+
+			if (corrupted != resource.isCorrupted() && resource != Resource.RAW_PADDLEFISH)
+			{
+				continue;
+			}
+
+			final Matcher matcher = entry.getValue().matcher(message);
+
+			if (!matcher.matches())
+			{
+				continue;
+			}
+
+			final int quantity = matcher.groupCount() == 1 ? Integer.parseInt(matcher.group(1)) : 1;
+
+			return ChatMatcher.pack(resource, quantity);
+		}
+
+		return ChatMatcher.NO_MATCH;
+	}
+
+	private static List<String> skillCorpus()
+	{
+		final List<String> corpus = new ArrayList<>();
+
+		for (final Resource resource : Resource.values())
+		{
+			final String message = resource.getMessage();
+
+			if (message == null)
+			{
+				continue;
+			}
+
+			if (message.contains("%d"))
+			{
+				for (final int quantity : new int[]{0, 1, 2, 3, 5, 9, 10, 12, 99, 100, 1000, 65535})
+				{
+					corpus.add(message.replace("%d", Integer.toString(quantity)));
+				}
+
+				corpus.add(message.replace("%d", "007"));
+				corpus.add(message.replace("%d", ""));
+				corpus.add(message.replace("%d", " 3"));
+				corpus.add(message.replace("%d", "3 "));
+				corpus.add(message.replace("%d", "-3"));
+				corpus.add(message.replace("%d", "+3"));
+				corpus.add(message.replace("%d", "1a"));
+				corpus.add(message.replace("%d", "a"));
+				corpus.add(message.replace("%d", "\u0663"));
+			}
+			else
+			{
+				corpus.add(message);
+			}
+
+			// Near misses of each message
+			final String sample = message.replace("%d", "3");
+			corpus.add(sample.substring(0, sample.length() - 1));
+			corpus.add(sample + ".");
+			corpus.add(sample + " ");
+			corpus.add(" " + sample);
+			corpus.add(sample.toLowerCase());
+			corpus.add(sample.toUpperCase());
+			corpus.add("<col=ef1020>" + sample + "</col>");
+		}
+
+		// Unrelated game and spam messages seen while in the gauntlet
+		corpus.add("");
+		corpus.add("Y");
+		corpus.add("You");
+		corpus.add("You ");
+		corpus.add("You  ");
+		corpus.add("You find");
+		corpus.add("You find crystal shards.");
+		corpus.add("You find 3 crystal shard.");
+		corpus.add("You manage to catch a fish!");
+		corpus.add("You manage to mine some ore");
+		corpus.add("You attempt to catch a fish.");
+		corpus.add("You swing your pick at the rock.");
+		corpus.add("You swing your axe at the tree.");
+		corpus.add("You cast out your net...");
+		corpus.add("You eat the paddlefish.");
+		corpus.add("You drink some of your egniol potion.");
+		corpus.add("You enter the Gauntlet.");
+		corpus.add("You need a free inventory space.");
+		corpus.add("You can't reach that.");
+		corpus.add("Your crystal bow has 92 charges remaining.");
+		corpus.add("Welcome to Old School RuneScape.");
+		corpus.add("Oh dear, you are dead!");
+		corpus.add("The Crystalline Hunllef's attack style has changed.");
+		corpus.add("Challenge duration: 6:32. Personal best: 5:58.");
+		corpus.add("Your Gauntlet completion count is: 52.");
+		corpus.add("\u00ffYou find 3 crystal shards.");
+		corpus.add("You \u00ff");
+
+		return corpus;
+	}
+
+	/**
+	 * The removed tag stripping, drop pattern and {@code Resource.fromName} lookup, packed the same way as
+	 * {@link ChatMatcher}.
+	 */
+	private static int legacyMatchDropMessage(final String message, final boolean corrupted)
+	{
+		final Matcher matcher = PATTERN_RESOURCE_DROP.matcher(Text.removeTags(message));
+
+		if (!matcher.matches())
+		{
+			return ChatMatcher.NO_MATCH;
+		}
+
+		final String name = matcher.group("name");
+
+		for (final Resource resource : Resource.values())
+		{
+			if ((resource.isCorrupted() == corrupted || resource == Resource.RAW_PADDLEFISH) &&
+				resource.toString().equals(name))
+			{
+				final String quantity = matcher.group("quantity");
+				return ChatMatcher.pack(resource, quantity != null ? Integer.parseInt(quantity) : 1);
+			}
+		}
+
+		return ChatMatcher.NO_MATCH;
+	}
+
+	private static List<String> dropCorpus()
+	{
+		final List<String> corpus = new ArrayList<>();
+
+		for (final Resource resource : Resource.values())
+		{
+			final String name = resource.toString();
+
+			for (final String prefix : DROP_PREFIXES)
+			{
+				corpus.add(prefix + " " + name);
+				corpus.add(prefix + " 1 x " + name);
+				corpus.add(prefix + " 3 x " + name);
+				corpus.add(prefix + " 250 x " + name);
+				corpus.add("<col=ef1020>" + prefix + " 2 x " + name + "</col>");
+			}
+
+			// Missing or malformed quantities
+			corpus.add("Untradeable drop: x " + name);
+			corpus.add("Untradeable drop: 3 " + name);
+			corpus.add("Untradeable drop: 3x " + name);
+			corpus.add("Untradeable drop: 3 x" + name);
+			corpus.add("Untradeable drop: 3 X " + name);
+			corpus.add("Untradeable drop: -3 x " + name);
+			corpus.add("Untradeable drop: 3 x 4 x " + name);
+			corpus.add("Untradeable drop:\t2 x " + name);
+			corpus.add("Untradeable drop:  2 x " + name);
+
+			// Near misses of the prefix and name
+			corpus.add("Untradeable drop:" + name);
+			corpus.add("Untradeable drop: " + name + " ");
+			corpus.add("Untradeable drop: " + name.toLowerCase());
+			corpus.add("Untradeable drop: " + name.substring(0, name.length() - 1));
+			corpus.add("Untradeable drop: " + name + "s");
+			corpus.add("drop: " + name);
+			corpus.add(" drop: " + name);
+			corpus.add("  drop: " + name);
+			corpus.add("Untradeable drops: " + name);
+			corpus.add("Untradeable Drop: " + name);
+			corpus.add("Untradeable\u00a0drop: " + name);
+			corpus.add("Untradeable drop:\u00a0" + name);
+			corpus.add("Untradeable drop:\u2003" + name);
+			corpus.add(name);
+
+			// The regex prefix is greedy, so the last " drop:" wins
+			corpus.add("Untradeable drop: Weapon frame drop: " + name);
+			corpus.add("Untradeable drop: " + name + " drop: Weapon frame");
+			corpus.add("Untradeable drop: " + name + " drop: ");
+			corpus.add("Untradeable drop: " + name + " drop:  ");
+			corpus.add("Untradeable drop: " + name + " drop:x");
+			corpus.add("Untradeable drop: drop: " + name);
+
+			// Tags anywhere in the prefix, quantity and name
+			final String message = "Untradeable drop: 12 x " + name;
+
+			for (int i = 0; i <= message.length(); i++)
+			{
+				corpus.add(message.substring(0, i) + "<col=ff0000>" + message.substring(i));
+				corpus.add(message.substring(0, i) + "</col>" + message.substring(i));
+				corpus.add(message.substring(0, i) + "<>" + message.substring(i));
+			}
+
+			// Unterminated tags are kept as text
+			corpus.add("Untradeable drop: " + name + "<col=ff0000");
+			corpus.add("Untradeable drop: <col=ff0000" + name);
+			corpus.add("<col=ff0000Untradeable drop: " + name);
+			corpus.add("Untradeable drop: <" + name);
+			corpus.add("Untradeable drop: 3 x <" + name);
+			corpus.add("Untradeable drop: <col=ff0000>" + name + "<");
+			corpus.add("Untradeable drop: <col=<ff0000>" + name);
+		}
+
+		// Empty and unrelated lines
+		corpus.add("");
+		corpus.add(" drop:");
+		corpus.add("Untradeable drop:");
+		corpus.add("Untradeable drop: ");
+		corpus.add("Untradeable drop:  ");
+		corpus.add("Untradeable drop: <col=ff0000></col>");
+		corpus.add("Untradeable drop: 3 x ");
+		corpus.add("Untradeable drop: 3 x <col=ff0000></col>");
+		corpus.add("Untradeable drop: 12");
+		corpus.add("Untradeable drop: 12 x");
+		corpus.add("Untradeable drop: Coins");
+		corpus.add("Valuable drop: 5 x Coins (5 coins)");
+		corpus.add("<col=ef1020>Valuable drop: Crystal armour seed (Untradeable)</col>");
+		corpus.add("Your crystal bow has 92 charges remaining.");
+		corpus.add("The Crystalline Hunllef's attack style has changed.");
+		corpus.add("<");
+		corpus.add(">");
+		corpus.add("<>");
+
+		return corpus;
+	}
+
+	@Test
+	public void testSkillMessagesMatchLegacyPatterns()
+	{
+		for (final boolean corrupted : new boolean[]{false, true})
+		{
+			for (final String message : skillCorpus())
+			{
+				assertEquals(
+					describe(message, corrupted),
+					legacyMatchSkillMessage(message, corrupted),
+					ChatMatcher.matchSkillMessage(message, corrupted)
+				);
+			}
+		}
+	}
+
+	@Test
+	public void testEveryResourceMessageMatches()
+	{
+		for (final Resource resource : SKILL_PATTERNS.keySet())
+		{
+			final String message = resource.getMessage().replace("%d", "7");
+			final int expected = resource.getMessage().contains("%d") ? 7 : 1;
+
+			for (final boolean corrupted : new boolean[]{false, true})
+			{
+				if (corrupted != resource.isCorrupted() && resource != Resource.RAW_PADDLEFISH)
+				{
+					continue;
+				}
+
+				final int match = ChatMatcher.matchSkillMessage(message, corrupted);
+
+				assertNotEquals(describe(message, corrupted), ChatMatcher.NO_MATCH, match);
+				assertEquals(resource, ChatMatcher.getResource(match));
+				assertEquals(expected, ChatMatcher.getQuantity(match));
+			}
+		}
+	}
+
+	@Test
+	public void testShardsOnlyMatchTheirRegion()
+	{
+		assertEquals(ChatMatcher.NO_MATCH, ChatMatcher.matchSkillMessage("You find 4 corrupted shards.", false));
+		assertEquals(ChatMatcher.NO_MATCH, ChatMatcher.matchSkillMessage("You find 4 crystal shards.", true));
+	}
+
+	@Test
+	public void testDropMessagesMatchLegacyPattern()
+	{
+		for (final boolean corrupted : new boolean[]{false, true})
+		{
+			for (final String message : dropCorpus())
+			{
+				assertEquals(
+					describe(message, corrupted),
+					legacyMatchDropMessage(message, corrupted),
+					ChatMatcher.matchDropMessage(message, corrupted)
+				);
+			}
+		}
+	}
+
+	@Test
+	public void testDropNamesSharedBetweenRegions()
+	{
+		final String frame = "Untradeable drop: <col=ff0000>Weapon frame</col>";
+		final String bark = "Untradeable drop: 2 x Phren <col=ff0000>bark";
+
+		assertEquals(Resource.WEAPON_FRAME, ChatMatcher.getResource(ChatMatcher.matchDropMessage(frame, false)));
+		assertEquals(Resource.CORRUPTED_WEAPON_FRAME, ChatMatcher.getResource(ChatMatcher.matchDropMessage(frame, true)));
+		assertEquals(Resource.PHREN_BARK, ChatMatcher.getResource(ChatMatcher.matchDropMessage(bark, false)));
+		assertEquals(Resource.CORRUPTED_PHREN_BARK, ChatMatcher.getResource(ChatMatcher.matchDropMessage(bark, true)));
+		assertEquals(2, ChatMatcher.getQuantity(ChatMatcher.matchDropMessage(bark, true)));
+	}
+
+	@Test
+	public void testDropNamesOnlyMatchTheirRegion()
+	{
+		assertEquals(ChatMatcher.NO_MATCH, ChatMatcher.matchDropMessage("Untradeable drop: Corrupted orb", false));
+		assertEquals(ChatMatcher.NO_MATCH, ChatMatcher.matchDropMessage("Untradeable drop: Crystal orb", true));
+
+		final int paddlefish = ChatMatcher.matchDropMessage("Untradeable drop: 3 x Raw paddlefish", true);
+		assertEquals(Resource.RAW_PADDLEFISH, ChatMatcher.getResource(paddlefish));
+		assertEquals(3, ChatMatcher.getQuantity(paddlefish));
+	}
+
+	private static String describe(final String message, final boolean corrupted)
+	{
+		return (corrupted ? "corrupted: " : "normal: ") + message;
+	}
+}